@@ -0,0 +1,117 @@
+// This file is part of packet-board, licensed under the GNU License.
+//
+// Copyright (c) 2024 aivruu
+//
+// This program is free software: you can redistribute it and/or modify
+// it under the terms of the GNU General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// This program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU General Public License
+// along with this program. If not, see <https://www.gnu.org/licenses/>.
+package io.github.aivruu.packetboard.board;
+
+import net.kyori.adventure.text.Component;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * This record is used to represent the sparse modifications that a player's scoreboard has over its
+ * {@link BoardTemplate}, only the modified title and lines are stored. Overlays are immutable, each modification
+ * creates a new overlay that copies only the previous modifications.
+ *
+ * @param title the modified title, or {@code null} if the template's title is used.
+ * @param lines the modified lines by their line-number.
+ * @since 1.0.0
+ */
+public record BoardOverlay(@Nullable Component title, Map<Integer, Component> lines) {
+  /**
+   * An overlay without any modification, shared by all the scoreboards that aren't modified.
+   *
+   * @since 1.0.0
+   */
+  public static final BoardOverlay EMPTY = new BoardOverlay(null, Map.of());
+
+  /**
+   * Returns whether this overlay doesn't have any modification.
+   *
+   * @return Whether the overlay is empty.
+   * @since 1.0.0
+   */
+  public boolean empty() {
+    return (this.title == null) && this.lines.isEmpty();
+  }
+
+  /**
+   * Returns whether the given line is modified by this overlay.
+   *
+   * @param line the line-number.
+   * @return Whether the line is modified.
+   * @since 1.0.0
+   */
+  public boolean overrides(final int line) {
+    return this.lines.containsKey(line);
+  }
+
+  /**
+   * Creates a new overlay with the given title.
+   *
+   * @param title the new title.
+   * @return The new overlay.
+   * @since 1.0.0
+   */
+  public BoardOverlay withTitle(final Component title) {
+    return new BoardOverlay(title, this.lines);
+  }
+
+  /**
+   * Creates a new overlay with the given line's text.
+   *
+   * @param line the line-number.
+   * @param text the new text for that line.
+   * @return The new overlay.
+   * @since 1.0.0
+   */
+  public BoardOverlay withLine(final int line, final Component text) {
+    final var lines = new HashMap<>(this.lines);
+    lines.put(line, text);
+    return new BoardOverlay(this.title, Map.copyOf(lines));
+  }
+
+  /**
+   * Applies this overlay over the given template's title.
+   *
+   * @param template the template.
+   * @return The resulting title.
+   * @since 1.0.0
+   */
+  public Component title(final BoardTemplate template) {
+    return (this.title == null) ? template.title() : this.title;
+  }
+
+  /**
+   * Applies this overlay over the given template's lines.
+   *
+   * @param template the template.
+   * @return The resulting lines, the template's shared array is returned if there isn't any modified line.
+   * @since 1.0.0
+   */
+  public Component[] lines(final BoardTemplate template) {
+    if (this.lines.isEmpty()) {
+      return template.lines();
+    }
+    final var lines = template.lines().clone();
+    for (final var entry : this.lines.entrySet()) {
+      if (entry.getKey() >= lines.length) continue;
+      lines[entry.getKey()] = entry.getValue();
+    }
+    return lines;
+  }
+}
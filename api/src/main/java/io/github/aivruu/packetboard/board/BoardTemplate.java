@@ -0,0 +1,78 @@
+// This file is part of packet-board, licensed under the GNU License.
+//
+// Copyright (c) 2024 aivruu
+//
+// This program is free software: you can redistribute it and/or modify
+// it under the terms of the GNU General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// This program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU General Public License
+// along with this program. If not, see <https://www.gnu.org/licenses/>.
+package io.github.aivruu.packetboard.board;
+
+import net.kyori.adventure.text.Component;
+
+/**
+ * This class is used to represent an immutable scoreboard's content, which is shared by all the scoreboards
+ * created from it, so their title and lines are stored only once, no matter the players-amount.
+ *
+ * @since 1.0.0
+ */
+public final class BoardTemplate {
+  private final Component title;
+  private final Component[] lines;
+
+  private BoardTemplate(final Component title, final Component[] lines) {
+    this.title = title;
+    this.lines = lines;
+  }
+
+  /**
+   * Creates a new {@link BoardTemplate} with the given title and lines, the lines are copied so further
+   * modifications to the given array don't affect the template.
+   *
+   * @param title the template's title.
+   * @param lines the template's lines.
+   * @return The created template.
+   * @since 1.0.0
+   */
+  public static BoardTemplate of(final Component title, final Component... lines) {
+    return new BoardTemplate(title, lines.clone());
+  }
+
+  /**
+   * Returns this template's title.
+   *
+   * @return The template's title.
+   * @since 1.0.0
+   */
+  public Component title() {
+    return this.title;
+  }
+
+  /**
+   * Returns this template's lines, this array is shared and must not be modified.
+   *
+   * @return The template's lines.
+   * @since 1.0.0
+   */
+  public Component[] lines() {
+    return this.lines;
+  }
+
+  /**
+   * Returns this template's lines-amount.
+   *
+   * @return The template's lines-amount.
+   * @since 1.0.0
+   */
+  public int size() {
+    return this.lines.length;
+  }
+}
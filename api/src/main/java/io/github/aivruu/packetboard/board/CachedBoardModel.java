@@ -27,16 +27,68 @@ import org.jetbrains.annotations.Nullable;
 import java.util.UUID;
 
 /**
- * This record is used as cachable-model to represent active scoreboards for any connected player.
+ * This record is used as cachable-model to represent active scoreboards for any connected player. The scoreboard's
+ * content is a shared {@link BoardTemplate}, and the player's own modifications are kept in a sparse {@link BoardOverlay}.
  *
  * @param id the player's unique id.
  * @param objectiveId the scoreboard's objective's unique id.
- * @param title the scoreboard's title.
- * @param lines the scoreboard's lines.
+ * @param template the scoreboard's shared template.
+ * @param overlay the scoreboard's modifications over its template.
  * @param visible if the scoreboard is turned-on or not.
  * @since 1.0.0
  */
-public record CachedBoardModel(String id, String objectiveId, Component title, Component[] lines, boolean visible) implements CachableModel {
+public record CachedBoardModel(String id, String objectiveId, BoardTemplate template, BoardOverlay overlay, boolean visible)
+  implements CachableModel {
+  /**
+   * Creates a new {@link CachedBoardModel} with its own template for the given title and lines.
+   *
+   * @param id the player's unique id.
+   * @param objectiveId the scoreboard's objective's unique id.
+   * @param title the scoreboard's title.
+   * @param lines the scoreboard's lines.
+   * @param visible if the scoreboard is turned-on or not.
+   * @since 1.0.0
+   */
+  public CachedBoardModel(final String id, final String objectiveId, final Component title, final Component[] lines,
+                          final boolean visible) {
+    this(id, objectiveId, BoardTemplate.of(title, lines), BoardOverlay.EMPTY, visible);
+  }
+
+  /**
+   * Returns the scoreboard's title, with the player's modification if there's one.
+   *
+   * @return The scoreboard's title.
+   * @since 1.0.0
+   */
+  public Component title() {
+    return this.overlay.title(this.template);
+  }
+
+  /**
+   * Returns the scoreboard's lines, with the player's modifications if there are.
+   *
+   * @return The scoreboard's lines, this array could be shared and must not be modified.
+   * @since 1.0.0
+   */
+  public Component[] lines() {
+    return this.overlay.lines(this.template);
+  }
+
+  /**
+   * Creates a new {@link CachedBoardModel} with the given template, keeping this scoreboard's modifications.
+   *
+   * @param template the new template.
+   * @return The new board-model.
+   * @since 1.0.0
+   */
+  public CachedBoardModel withTemplate(final BoardTemplate template) {
+    return new CachedBoardModel(this.id, this.objectiveId, template, this.overlay, this.visible);
+  }
+
+  private CachedBoardModel withVisible(final boolean visible) {
+    return new CachedBoardModel(this.id, this.objectiveId, this.template, this.overlay, visible);
+  }
+
   /**
    * Returns the {@link Player} reference for this scoreboard's owner based on the owner's unique id.
    *
@@ -65,10 +117,40 @@ public record CachedBoardModel(String id, String objectiveId, Component title, C
       return BoardModificationStatusProvider.withError();
     }
     // Send packets to the player with scoreboard information and attributes.
-    PacketProviderAccessor.PACKET_PROVIDER_IMPL.create(player, this.objectiveId, this.title, this.lines);
+    PacketProviderAccessor.PACKET_PROVIDER_IMPL.create(player, this.objectiveId, this.title(), this.lines());
+    return BoardModificationStatusProvider.withCreate();
+  }
+
+  /**
+   * Sends the scoreboard to the player without displaying it, so it can be displayed later instantly.
+   *
+   * @return The {@link BoardModificationStatusProvider} with the status for the operation.
+   *     - {@link BoardModificationStatusProvider#CREATED_STATUS} if the scoreboard was prepared correctly.
+   *     <p>
+   *     - {@link BoardModificationStatusProvider#ERROR_STATUS} if the player isn't connected.
+   * @see #display()
+   * @since 1.0.0
+   */
+  public BoardModificationStatusProvider prepare() {
+    final var player = this.player();
+    if (player == null) {
+      return BoardModificationStatusProvider.withError();
+    }
+    PacketProviderAccessor.PACKET_PROVIDER_IMPL.prepare(player, this.objectiveId, this.title(), this.lines());
     return BoardModificationStatusProvider.withCreate();
   }
 
+  /**
+   * Displays the previously prepared scoreboard at the player's sidebar, only a single packet is sent.
+   *
+   * @since 1.0.0
+   */
+  public void display() {
+    final var player = this.player();
+    if (player == null) return;
+    PacketProviderAccessor.PACKET_PROVIDER_IMPL.display(player, this.objectiveId);
+  }
+
   /**
    * Deletes the scoreboard from the player.
    *
@@ -98,8 +180,8 @@ public record CachedBoardModel(String id, String objectiveId, Component title, C
    *     - {@link BoardModificationStatusProvider#TURNED_OFF_STATUS} if the scoreboard was turned-off.
    *     <p>
    *     - {@link BoardModificationStatusProvider#withError()} if the player isn't connected.
-   * @see BoardModificationStatusProvider#withTurnOff(String, String, Component, Component[])
-   * @see BoardModificationStatusProvider#withTurnOn(String, String, Component, Component[])
+   * @see BoardModificationStatusProvider#withTurnOff(CachedBoardModel)
+   * @see BoardModificationStatusProvider#withTurnOn(CachedBoardModel)
    * @see BoardModificationStatusProvider#withError()
    * @since 1.0.0
    */
@@ -111,11 +193,11 @@ public record CachedBoardModel(String id, String objectiveId, Component title, C
     // Basically, if the scoreboard was already turned-off or not, we show, or hide the board to the player,
     // and we provide a new object-instance with the updated information.
     if (!visible) {
-      PacketProviderAccessor.PACKET_PROVIDER_IMPL.create(player, this.objectiveId, this.title, this.lines);
-      return BoardModificationStatusProvider.withTurnOn(this.id, this.objectiveId, this.title, this.lines);
+      PacketProviderAccessor.PACKET_PROVIDER_IMPL.create(player, this.objectiveId, this.title(), this.lines());
+      return BoardModificationStatusProvider.withTurnOn(this.withVisible(true));
     }
     PacketProviderAccessor.PACKET_PROVIDER_IMPL.delete(player, this.objectiveId);
-    return BoardModificationStatusProvider.withTurnOff(this.id, this.objectiveId, this.title, this.lines);
+    return BoardModificationStatusProvider.withTurnOff(this.withVisible(false));
   }
 
   /**
@@ -138,7 +220,7 @@ public record CachedBoardModel(String id, String objectiveId, Component title, C
    *    - {@link BoardModificationStatusProvider#MODIFIED_TITLE_STATUS} if the title was updated correctly.
    *    <p>
    *    - {@link BoardModificationStatusProvider#ERROR_STATUS} if the player isn't connected.
-   * @see BoardModificationStatusProvider#withModifiedTitle(String, String, Component, Component[])
+   * @see BoardModificationStatusProvider#withModifiedTitle(CachedBoardModel)
    * @see BoardModificationStatusProvider#withError()
    * @since 1.0.0
    */
@@ -148,7 +230,9 @@ public record CachedBoardModel(String id, String objectiveId, Component title, C
       return BoardModificationStatusProvider.withError();
     }
     PacketProviderAccessor.PACKET_PROVIDER_IMPL.sendTitle(player, title, this.objectiveId);
-    return BoardModificationStatusProvider.withModifiedTitle(this.id, this.objectiveId, title, this.lines);
+    // Only the title is kept as the player's modification, the lines are still shared with the template.
+    return BoardModificationStatusProvider.withModifiedTitle(
+      new CachedBoardModel(this.id, this.objectiveId, this.template, this.overlay.withTitle(title), true));
   }
 
   /**
@@ -171,7 +255,7 @@ public record CachedBoardModel(String id, String objectiveId, Component title, C
    *    - {@link BoardModificationStatusProvider#MODIFIED_LINES_STATUS} if the lines were updated correctly.
    *    <p>
    *    - {@link BoardModificationStatusProvider#ERROR_STATUS} if the player isn't connected.
-   * @see BoardModificationStatusProvider#withModifiedLines(String, String, Component, Component[])
+   * @see BoardModificationStatusProvider#withModifiedLines(CachedBoardModel)
    * @see BoardModificationStatusProvider#withError()
    * @since 1.0.0
    */
@@ -181,7 +265,19 @@ public record CachedBoardModel(String id, String objectiveId, Component title, C
       return BoardModificationStatusProvider.withError();
     }
     PacketProviderAccessor.PACKET_PROVIDER_IMPL.sendLines(player, this.objectiveId, lines);
-    return BoardModificationStatusProvider.withModifiedLines(this.id, this.objectiveId, this.title, lines);
+    return BoardModificationStatusProvider.withModifiedLines(this.withLines(lines));
+  }
+
+  /**
+   * Creates a new {@link CachedBoardModel} with the given lines, without sending any packet.
+   *
+   * @param lines the new lines for the scoreboard.
+   * @return The new board-model.
+   * @since 1.0.0
+   */
+  public CachedBoardModel withLines(final Component... lines) {
+    // All the lines were replaced, so the scoreboard doesn't share its template anymore.
+    return new CachedBoardModel(this.id, this.objectiveId, BoardTemplate.of(this.title(), lines), BoardOverlay.EMPTY, true);
   }
 
   /**
@@ -194,7 +290,20 @@ public record CachedBoardModel(String id, String objectiveId, Component title, C
   public void lineWithoutMutation(final int line, final Component text) {
     final var player = this.player();
     if (player == null) return;
-    PacketProviderAccessor.PACKET_PROVIDER_IMPL.sendLine(player, (this.lines.length - line), text, this.objectiveId);
+    PacketProviderAccessor.PACKET_PROVIDER_IMPL.sendLine(player, (this.template.size() - line), text, this.objectiveId);
+  }
+
+  /**
+   * Hides the given line from the player's scoreboard without make modifications to the current board-model, the
+   * rest of the lines keep their positions, and the line can be shown again with {@link #lineWithoutMutation(int, Component)}.
+   *
+   * @param line the line-number to hide.
+   * @since 1.0.0
+   */
+  public void hideLineWithoutMutation(final int line) {
+    final var player = this.player();
+    if (player == null) return;
+    PacketProviderAccessor.PACKET_PROVIDER_IMPL.removeLine(player, (this.template.size() - line), this.objectiveId);
   }
 
   /**
@@ -207,22 +316,19 @@ public record CachedBoardModel(String id, String objectiveId, Component title, C
    *    <p>
    *    - {@link BoardModificationStatusProvider#ERROR_STATUS} if the player isn't connected, or specified line-number is out
    *    of range for the scoreboard's lines-array.
-   * @see BoardModificationStatusProvider#withModifiedLines(String, String, Component, Component[])
+   * @see BoardModificationStatusProvider#withModifiedLines(CachedBoardModel)
    * @see BoardModificationStatusProvider#withError()
    * @since 1.0.0
    */
   public BoardModificationStatusProvider line(final int line, final Component text) {
     final var player = this.player();
-    if (player == null || line >= this.lines.length || line < 0) {
+    if (player == null || line >= this.template.size() || line < 0) {
       return BoardModificationStatusProvider.withError();
     }
-    PacketProviderAccessor.PACKET_PROVIDER_IMPL.sendLine(player, (this.lines.length - line), text, this.objectiveId);
-    // Array modification to include new changed-line.
-    final var modifiedLinesArray = new Component[this.lines.length];
-    for (byte i = 0; i < this.lines.length; i++) {
-      modifiedLinesArray[i] = (i == line) ? text : this.lines[i];
-    }
-    return BoardModificationStatusProvider.withModifiedLines(this.id, this.objectiveId, this.title, modifiedLinesArray);
+    PacketProviderAccessor.PACKET_PROVIDER_IMPL.sendLine(player, (this.template.size() - line), text, this.objectiveId);
+    // Only the changed-line is kept as the player's modification, the rest are still shared with the template.
+    return BoardModificationStatusProvider.withModifiedLines(
+      new CachedBoardModel(this.id, this.objectiveId, this.template, this.overlay.withLine(line, text), true));
   }
 
   /**
@@ -234,22 +340,35 @@ public record CachedBoardModel(String id, String objectiveId, Component title, C
    *     <p>
    *     - {@link BoardModificationStatusProvider#ERROR_STATUS} if the player isn't connected, or the specified line-to-delete
    *     is out of range for the scoreboard's lines array.
-   * @see BoardModificationStatusProvider#withModifiedLines(String, String, Component, Component[])
+   * @see BoardModificationStatusProvider#withModifiedLines(CachedBoardModel)
    * @see BoardModificationStatusProvider#withError()
    * @since 1.0.0
    */
   public BoardModificationStatusProvider removeLine(final int line) {
     final var player = this.player();
-    if ((player == null) || line >= this.lines.length || line < 0) {
+    if ((player == null) || line >= this.template.size() || line < 0) {
       return BoardModificationStatusProvider.withError();
     }
+    final var modifiedBoard = this.withoutLine(line);
+    PacketProviderAccessor.PACKET_PROVIDER_IMPL.sendLines(player, this.objectiveId, modifiedBoard.lines());
+    return BoardModificationStatusProvider.withModifiedLines(modifiedBoard);
+  }
+
+  /**
+   * Creates a new {@link CachedBoardModel} without the specified line, without sending any packet.
+   *
+   * @param line the line-number to remove, it must be in range for the scoreboard's lines-array.
+   * @return The new board-model.
+   * @since 1.0.0
+   */
+  public CachedBoardModel withoutLine(final int line) {
     // Array modification for element on 'line' index be deleted.
-    final var newLines = new Component[this.lines.length - 1];
-    for (int i = 0; i < this.lines.length; i++) {
+    final var lines = this.lines();
+    final var newLines = new Component[lines.length - 1];
+    for (int i = 0, j = 0; i < lines.length; i++) {
       if (i == line) continue;
-      newLines[i] = this.lines[i];
+      newLines[j++] = lines[i];
     }
-    PacketProviderAccessor.PACKET_PROVIDER_IMPL.sendLines(player, this.objectiveId, newLines);
-    return BoardModificationStatusProvider.withModifiedLines(this.id, this.objectiveId, this.title, newLines);
+    return this.withLines(newLines);
   }
 }
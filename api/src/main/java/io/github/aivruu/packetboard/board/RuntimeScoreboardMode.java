@@ -47,5 +47,19 @@ public enum RuntimeScoreboardMode {
    *
    * @since 1.0.0
    */
-  GROUP
+  GROUP,
+  /**
+   * A scoreboard-format will be shown to each player based-on the first rule they match, rules could
+   * combine worlds, permission-groups and permissions.
+   *
+   * @since 1.0.0
+   */
+  RULES,
+  /**
+   * A scoreboard-format will be shown to each player based-on the region where they are, regions are
+   * cuboids defined within the worlds.
+   *
+   * @since 1.0.0
+   */
+  REGION
 }
@@ -0,0 +1,265 @@
+// This file is part of packet-board, licensed under the GNU License.
+//
+// Copyright (c) 2024 aivruu
+//
+// This program is free software: you can redistribute it and/or modify
+// it under the terms of the GNU General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// This program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU General Public License
+// along with this program. If not, see <https://www.gnu.org/licenses/>.
+package io.github.aivruu.packetboard.board;
+
+import io.github.aivruu.packetboard.packet.PacketProviderAccessor;
+import net.kyori.adventure.text.Component;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * This class is used to represent a scoreboard shown to several players at the same time, its content is
+ * stored once, and each modification is rendered once and written to every viewer, instead of being handled
+ * for each player's own scoreboard. Viewers should be added and removed through the
+ * {@link io.github.aivruu.packetboard.manager.BoardManager}, so their own scoreboard isn't displayed over this one.
+ *
+ * @since 1.0.0
+ */
+public final class SharedBoard {
+  private final String id;
+  private final String objectiveId;
+  private final Set<UUID> viewers = ConcurrentHashMap.newKeySet();
+  private Component title;
+  private Component[] lines;
+  private boolean closed;
+
+  /**
+   * Creates a new instance of {@link SharedBoard} using the given parameters.
+   *
+   * @param id the scoreboard's identifier.
+   * @param objectiveId the scoreboard's objective's unique id.
+   * @param title the scoreboard's title.
+   * @param lines the scoreboard's lines/content.
+   * @since 1.0.0
+   */
+  public SharedBoard(final String id, final String objectiveId, final Component title, final Component... lines) {
+    this.id = id;
+    this.objectiveId = objectiveId;
+    this.title = title;
+    this.lines = lines.clone();
+  }
+
+  /**
+   * Returns this scoreboard's identifier.
+   *
+   * @return The scoreboard's identifier.
+   * @since 1.0.0
+   */
+  public String id() {
+    return this.id;
+  }
+
+  /**
+   * Returns this scoreboard's objective's unique id.
+   *
+   * @return The scoreboard's objective's id.
+   * @since 1.0.0
+   */
+  public String objectiveId() {
+    return this.objectiveId;
+  }
+
+  /**
+   * Returns this scoreboard's current title.
+   *
+   * @return The scoreboard's title.
+   * @since 1.0.0
+   */
+  public synchronized Component title() {
+    return this.title;
+  }
+
+  /**
+   * Returns a copy of this scoreboard's current lines.
+   *
+   * @return The scoreboard's lines.
+   * @since 1.0.0
+   */
+  public synchronized Component[] lines() {
+    return this.lines.clone();
+  }
+
+  /**
+   * Returns the unique ids of the players that are viewing this scoreboard.
+   *
+   * @return An unmodifiable view of the scoreboard's viewers.
+   * @since 1.0.0
+   */
+  public Set<UUID> viewers() {
+    return Collections.unmodifiableSet(this.viewers);
+  }
+
+  /**
+   * Returns whether the player is viewing this scoreboard.
+   *
+   * @param player the player to check.
+   * @return Whether the player is a viewer of this scoreboard.
+   * @since 1.0.0
+   */
+  public boolean viewing(final Player player) {
+    return this.viewers.contains(player.getUniqueId());
+  }
+
+  /**
+   * Adds the player as viewer of this scoreboard, sending the scoreboard to their client.
+   *
+   * @param player the player to add.
+   * @return {@code true} if the player was added. Otherwise, {@code false} if they were already a viewer, or
+   *     the scoreboard was closed.
+   * @since 1.0.0
+   */
+  public synchronized boolean addViewer(final Player player) {
+    if (this.closed || !this.viewers.add(player.getUniqueId())) {
+      return false;
+    }
+    PacketProviderAccessor.PACKET_PROVIDER_IMPL.create(player, this.objectiveId, this.title, this.lines);
+    return true;
+  }
+
+  /**
+   * Removes the player from this scoreboard's viewers, removing the scoreboard from their client.
+   *
+   * @param player the player to remove.
+   * @return {@code true} if the player was removed, otherwise {@code false} if they weren't a viewer.
+   * @since 1.0.0
+   */
+  public synchronized boolean removeViewer(final Player player) {
+    if (!this.viewers.remove(player.getUniqueId())) {
+      return false;
+    }
+    if (player.isOnline()) {
+      PacketProviderAccessor.PACKET_PROVIDER_IMPL.remove(player, this.objectiveId);
+    }
+    return true;
+  }
+
+  /**
+   * Removes the player with the given id from this scoreboard's viewers without sending any packet, used when
+   * the player has disconnected.
+   *
+   * @param playerId the player's unique id.
+   * @return Whether the player was a viewer of this scoreboard.
+   * @since 1.0.0
+   */
+  public boolean forget(final UUID playerId) {
+    return this.viewers.remove(playerId);
+  }
+
+  /**
+   * Sets a new text-component for the given line, and sends it to every viewer.
+   *
+   * @param line the scoreboard's line to modify.
+   * @param text the text to be shown on that line.
+   * @return {@code true} if the line was modified, otherwise {@code false} if the line is out of bounds, or the
+   *     scoreboard was closed.
+   * @since 1.0.0
+   */
+  public synchronized boolean line(final int line, final Component text) {
+    if (this.closed || (line < 0) || (line >= this.lines.length)) {
+      return false;
+    }
+    final var modifiedLines = this.lines.clone();
+    modifiedLines[line] = text;
+    this.lines = modifiedLines;
+    PacketProviderAccessor.PACKET_PROVIDER_IMPL.sendLine(this.onlineViewers(), modifiedLines.length - line, text,
+      this.objectiveId);
+    return true;
+  }
+
+  /**
+   * Sets new content/lines for this scoreboard, only the lines that have changed are sent to the viewers.
+   *
+   * @param lines the new lines to be shown within the scoreboard.
+   * @return {@code true} if the lines were modified, otherwise {@code false} if the scoreboard was closed.
+   * @since 1.0.0
+   */
+  public synchronized boolean lines(final Component... lines) {
+    if (this.closed) {
+      return false;
+    }
+    final var previousLines = this.lines;
+    final var modifiedLines = lines.clone();
+    this.lines = modifiedLines;
+    final var viewers = this.onlineViewers();
+    if (viewers.isEmpty()) {
+      return true;
+    }
+    final var packetProvider = PacketProviderAccessor.PACKET_PROVIDER_IMPL;
+    // Scores depend on the lines-amount, so every line is sent again if it has changed.
+    final var sameSize = previousLines.length == modifiedLines.length;
+    for (int i = 0; i < modifiedLines.length; i++) {
+      if (sameSize && previousLines[i].equals(modifiedLines[i])) continue;
+      packetProvider.sendLine(viewers, modifiedLines.length - i, modifiedLines[i], this.objectiveId);
+    }
+    for (int score = modifiedLines.length + 1; score <= previousLines.length; score++) {
+      packetProvider.removeLine(viewers, score, this.objectiveId);
+    }
+    return true;
+  }
+
+  /**
+   * Sets a new title-component for this scoreboard, and sends it to every viewer.
+   *
+   * @param title the new title to be shown within the scoreboard.
+   * @return {@code true} if the title was modified, otherwise {@code false} if the scoreboard was closed.
+   * @since 1.0.0
+   */
+  public synchronized boolean title(final Component title) {
+    if (this.closed) {
+      return false;
+    }
+    this.title = title;
+    PacketProviderAccessor.PACKET_PROVIDER_IMPL.sendTitle(this.onlineViewers(), title, this.objectiveId);
+    return true;
+  }
+
+  /**
+   * Removes this scoreboard from all its viewers, and deletes its objective, the scoreboard can't be used
+   * after this.
+   *
+   * @since 1.0.0
+   */
+  public synchronized void close() {
+    if (this.closed) {
+      return;
+    }
+    this.closed = true;
+    final var packetProvider = PacketProviderAccessor.PACKET_PROVIDER_IMPL;
+    for (final var viewer : this.onlineViewers()) {
+      packetProvider.remove(viewer, this.objectiveId);
+    }
+    this.viewers.clear();
+    packetProvider.dispose(this.objectiveId);
+  }
+
+  private List<Player> onlineViewers() {
+    final var onlineViewers = new ArrayList<Player>(this.viewers.size());
+    for (final var viewerId : this.viewers) {
+      final var viewer = Bukkit.getPlayer(viewerId);
+      if (viewer == null) continue;
+      onlineViewers.add(viewer);
+    }
+    return onlineViewers;
+  }
+}
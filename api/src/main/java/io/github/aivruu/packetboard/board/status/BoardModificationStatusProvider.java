@@ -107,6 +107,17 @@ public record BoardModificationStatusProvider(byte status, @Nullable CachedBoard
     return new BoardModificationStatusProvider(TURNED_OFF_STATUS, new CachedBoardModel(id, objectiveId, title, lines, false));
   }
 
+  /**
+   * Creates a new {@link BoardModificationStatusProvider} with the {@link #TURNED_OFF_STATUS}.
+   *
+   * @param result the turned-off board-model.
+   * @return The {@link BoardModificationStatusProvider} with the {@link #TURNED_OFF_STATUS}, and the given result.
+   * @since 1.0.0
+   */
+  public static BoardModificationStatusProvider withTurnOff(final CachedBoardModel result) {
+    return new BoardModificationStatusProvider(TURNED_OFF_STATUS, result);
+  }
+
   /**
    * Creates a new {@link BoardModificationStatusProvider} with the {@link #TURNED_ON_STATUS}.
    *
@@ -123,6 +134,17 @@ public record BoardModificationStatusProvider(byte status, @Nullable CachedBoard
     return new BoardModificationStatusProvider(TURNED_ON_STATUS, new CachedBoardModel(id, objectiveId, title, lines, true));
   }
 
+  /**
+   * Creates a new {@link BoardModificationStatusProvider} with the {@link #TURNED_ON_STATUS}.
+   *
+   * @param result the turned-on board-model.
+   * @return The {@link BoardModificationStatusProvider} with the {@link #TURNED_ON_STATUS}, and the given result.
+   * @since 1.0.0
+   */
+  public static BoardModificationStatusProvider withTurnOn(final CachedBoardModel result) {
+    return new BoardModificationStatusProvider(TURNED_ON_STATUS, result);
+  }
+
   /**
    * Creates a new {@link BoardModificationStatusProvider} with the {@link #MODIFIED_TITLE_STATUS}.
    *
@@ -139,6 +161,17 @@ public record BoardModificationStatusProvider(byte status, @Nullable CachedBoard
     return new BoardModificationStatusProvider(MODIFIED_TITLE_STATUS, new CachedBoardModel(id, objectiveId, newTitle, lines, true));
   }
 
+  /**
+   * Creates a new {@link BoardModificationStatusProvider} with the {@link #MODIFIED_TITLE_STATUS}.
+   *
+   * @param result the modified board-model.
+   * @return The {@link BoardModificationStatusProvider} with the {@link #MODIFIED_TITLE_STATUS}, and the given result.
+   * @since 1.0.0
+   */
+  public static BoardModificationStatusProvider withModifiedTitle(final CachedBoardModel result) {
+    return new BoardModificationStatusProvider(MODIFIED_TITLE_STATUS, result);
+  }
+
   /**
    * Creates a new {@link BoardModificationStatusProvider} with the {@link #MODIFIED_LINES_STATUS}.
    *
@@ -155,6 +188,17 @@ public record BoardModificationStatusProvider(byte status, @Nullable CachedBoard
     return new BoardModificationStatusProvider(MODIFIED_LINES_STATUS, new CachedBoardModel(id, objectiveId, title, newLines, true));
   }
 
+  /**
+   * Creates a new {@link BoardModificationStatusProvider} with the {@link #MODIFIED_LINES_STATUS}.
+   *
+   * @param result the modified board-model.
+   * @return The {@link BoardModificationStatusProvider} with the {@link #MODIFIED_LINES_STATUS}, and the given result.
+   * @since 1.0.0
+   */
+  public static BoardModificationStatusProvider withModifiedLines(final CachedBoardModel result) {
+    return new BoardModificationStatusProvider(MODIFIED_LINES_STATUS, result);
+  }
+
   /**
    * Creates a new {@link BoardModificationStatusProvider} with the {@link #ERROR_STATUS}.
    *
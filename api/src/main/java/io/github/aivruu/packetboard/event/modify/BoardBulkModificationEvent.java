@@ -0,0 +1,84 @@
+// This file is part of packet-board, licensed under the GNU License.
+//
+// Copyright (c) 2024 aivruu
+//
+// This program is free software: you can redistribute it and/or modify
+// it under the terms of the GNU General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// This program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU General Public License
+// along with this program. If not, see <https://www.gnu.org/licenses/>.
+package io.github.aivruu.packetboard.event.modify;
+
+import net.kyori.adventure.text.Component;
+import org.bukkit.entity.Player;
+import org.bukkit.event.Event;
+import org.bukkit.event.HandlerList;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * This event is fired once when the scoreboards of several players are modified by a single bulk-operation,
+ * instead of firing an event for each player.
+ *
+ * @since 1.0.0
+ */
+public class BoardBulkModificationEvent extends Event {
+  private static final HandlerList HANDLER_LIST = new HandlerList();
+  private final List<Player> players;
+  private final @Nullable Component newTitle;
+  private final @Nullable Component[] newLines;
+
+  public BoardBulkModificationEvent(final List<Player> players, final @Nullable Component newTitle,
+                                    final @Nullable Component[] newLines) {
+    this.players = players;
+    this.newTitle = newTitle;
+    this.newLines = newLines;
+  }
+
+  /**
+   * Returns the players whose scoreboards were modified.
+   *
+   * @return This event's involved players.
+   * @since 1.0.0
+   */
+  public List<Player> players() {
+    return this.players;
+  }
+
+  /**
+   * Returns the new title set to the players' scoreboards.
+   *
+   * @return The new title, or {@code null} if the title wasn't modified.
+   * @since 1.0.0
+   */
+  public @Nullable Component newTitle() {
+    return this.newTitle;
+  }
+
+  /**
+   * Returns the new lines set to the players' scoreboards.
+   *
+   * @return The new lines, or {@code null} if the lines weren't modified.
+   * @since 1.0.0
+   */
+  public @Nullable Component[] newLines() {
+    return this.newLines;
+  }
+
+  @Override
+  public HandlerList getHandlers() {
+    return HANDLER_LIST;
+  }
+
+  public static HandlerList getHandlerList() {
+    return HANDLER_LIST;
+  }
+}
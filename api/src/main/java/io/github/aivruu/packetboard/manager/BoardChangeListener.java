@@ -0,0 +1,56 @@
+// This file is part of packet-board, licensed under the GNU License.
+//
+// Copyright (c) 2024 aivruu
+//
+// This program is free software: you can redistribute it and/or modify
+// it under the terms of the GNU General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// This program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU General Public License
+// along with this program. If not, see <https://www.gnu.org/licenses/>.
+package io.github.aivruu.packetboard.manager;
+
+import net.kyori.adventure.text.Component;
+import org.bukkit.entity.Player;
+
+/**
+ * This interface is used to listen for scoreboards' modifications without the Bukkit events' overhead, its
+ * methods are called directly from the modification's thread, so they must be cheap and thread-safe.
+ *
+ * @since 1.0.0
+ */
+public interface BoardChangeListener {
+  /**
+   * Called when the player's scoreboard's lines were replaced.
+   *
+   * @param player the player that owns the scoreboard.
+   * @param lines the scoreboard's new lines, this array must not be modified.
+   * @since 1.0.0
+   */
+  default void linesModified(final Player player, final Component[] lines) {}
+
+  /**
+   * Called when a single line of the player's scoreboard was modified.
+   *
+   * @param player the player that owns the scoreboard.
+   * @param line the modified line-number.
+   * @param text the line's new text.
+   * @since 1.0.0
+   */
+  default void lineModified(final Player player, final int line, final Component text) {}
+
+  /**
+   * Called when the player's scoreboard's title was modified.
+   *
+   * @param player the player that owns the scoreboard.
+   * @param title the scoreboard's new title.
+   * @since 1.0.0
+   */
+  default void titleModified(final Player player, final Component title) {}
+}
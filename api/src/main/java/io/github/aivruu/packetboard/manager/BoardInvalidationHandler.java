@@ -0,0 +1,37 @@
+// This file is part of packet-board, licensed under the GNU License.
+//
+// Copyright (c) 2024 aivruu
+//
+// This program is free software: you can redistribute it and/or modify
+// it under the terms of the GNU General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// This program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU General Public License
+// along with this program. If not, see <https://www.gnu.org/licenses/>.
+package io.github.aivruu.packetboard.manager;
+
+import org.bukkit.entity.Player;
+
+/**
+ * This interface is used to re-render the scoreboards' lines that depend on a placeholder when its value
+ * has changed, instead of waiting for the next periodic refresh.
+ *
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface BoardInvalidationHandler {
+  /**
+   * Re-renders the player's scoreboard's lines that depend on the given placeholder.
+   *
+   * @param player the player that owns the scoreboard.
+   * @param placeholder the placeholder which value has changed, including its '%' delimiters.
+   * @since 1.0.0
+   */
+  void invalidate(final Player player, final String placeholder);
+}
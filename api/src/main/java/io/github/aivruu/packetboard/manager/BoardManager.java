@@ -16,20 +16,39 @@
 // along with this program. If not, see <https://www.gnu.org/licenses/>.
 package io.github.aivruu.packetboard.manager;
 
+import io.github.aivruu.packetboard.board.BoardOverlay;
+import io.github.aivruu.packetboard.board.BoardTemplate;
 import io.github.aivruu.packetboard.board.CachedBoardModel;
+import io.github.aivruu.packetboard.board.SharedBoard;
+import io.github.aivruu.packetboard.board.status.BoardModificationStatusProvider;
 import io.github.aivruu.packetboard.event.general.BoardCreateEvent;
 import io.github.aivruu.packetboard.event.general.BoardDeleteEvent;
+import io.github.aivruu.packetboard.event.modify.BoardBulkModificationEvent;
 import io.github.aivruu.packetboard.event.modify.BoardLinesModificationEvent;
 import io.github.aivruu.packetboard.event.modify.BoardSingleLineModificationEvent;
 import io.github.aivruu.packetboard.event.modify.BoardTitleModificationEvent;
 import io.github.aivruu.packetboard.event.general.BoardToggleEvent;
+import io.github.aivruu.packetboard.packet.PacketProviderAccessor;
 import io.github.aivruu.packetboard.board.BoardRepositoryModel;
 import io.github.aivruu.packetboard.repository.RepositoryModel;
 import net.kyori.adventure.text.Component;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
+import org.bukkit.event.HandlerList;
+import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Predicate;
 
 /**
  * This class is used as upper-level main-manager for all {@link CachedBoardModel} during runtime,
@@ -52,6 +71,13 @@ public class BoardManager {
    */
   private static final Random RANDOM = new Random();
   private final RepositoryModel<CachedBoardModel> boardRepository;
+  private final Map<String, Map<String, CachedBoardModel>> preparedBoards = new ConcurrentHashMap<>();
+  private final Map<String, SharedBoard> sharedBoards = new ConcurrentHashMap<>();
+  /** The shared scoreboard viewed by each player, their own scoreboard isn't displayed meanwhile. */
+  private final Map<String, SharedBoard> viewedBoards = new ConcurrentHashMap<>();
+  private final Set<String> concealedBoards = ConcurrentHashMap.newKeySet();
+  private final List<BoardChangeListener> changeListeners = new CopyOnWriteArrayList<>();
+  private volatile @Nullable BoardInvalidationHandler invalidationHandler;
 
   /**
    * Creates a new instance of {@link BoardManager} using the given parameters.
@@ -75,12 +101,32 @@ public class BoardManager {
    * @since 1.0.0
    */
   public boolean create(final Player player, final Component title, final Component... lines) {
+    return this.create(player, BoardTemplate.of(title, lines));
+  }
+
+  /**
+   * Creates a new scoreboard for the player using the given template, the template is shared with the rest of
+   * the scoreboards created from it, only the player's own modifications are stored for this scoreboard.
+   *
+   * @param player the player to who create the scoreboard.
+   * @param template the scoreboard's template.
+   * @return {@code true} if the scoreboard was created, shown to the player, and cached. Otherwise, will
+   *     return false if the {@link BoardCreateEvent} is cancelled, or the scoreboard couldn't be shown.
+   * @see CachedBoardModel#show()
+   * @since 1.0.0
+   */
+  public boolean create(final Player player, final BoardTemplate template) {
     final var cachedBoardModel = new CachedBoardModel(player.getUniqueId().toString(),
-      SCOREBOARD_OBJECTIVE_BASE_FORMAT.formatted(RANDOM.nextInt()), title, lines, true);
-    final var boardCreateEvent = new BoardCreateEvent(player, cachedBoardModel);
-    Bukkit.getPluginManager().callEvent(boardCreateEvent);
-    // Check additionally if the scoreboard could be shown to the player.
-    if (boardCreateEvent.isCancelled() || cachedBoardModel.show().error()) {
+      SCOREBOARD_OBJECTIVE_BASE_FORMAT.formatted(RANDOM.nextInt()), template, BoardOverlay.EMPTY, true);
+    if (createCancelled(player, cachedBoardModel)) {
+      return false;
+    }
+    // Check additionally if the scoreboard could be shown to the player, it's only sent while they're viewing a
+    // shared scoreboard.
+    final var creationStatus = this.viewedBoards.containsKey(cachedBoardModel.id())
+      ? cachedBoardModel.prepare()
+      : cachedBoardModel.show();
+    if (creationStatus.error()) {
       return false;
     }
     // Board-model in-cache saving.
@@ -88,6 +134,351 @@ public class BoardManager {
     return true;
   }
 
+  /**
+   * Prepares a new scoreboard for the player using the given parameters, the scoreboard is sent to the
+   * player's client, but it isn't displayed until {@link #switchTo(Player, String)} is called.
+   *
+   * @param player the player to who prepare the scoreboard.
+   * @param key the key used to identify this scoreboard between the player's prepared scoreboards.
+   * @param title the scoreboard's title.
+   * @param lines the scoreboard's lines/content.
+   * @return {@code true} if the scoreboard was prepared, or it was already prepared with this key. Otherwise,
+   *     will return false if the {@link BoardCreateEvent} is cancelled, or the scoreboard couldn't be sent.
+   * @see CachedBoardModel#prepare()
+   * @since 1.0.0
+   */
+  public boolean prepare(final Player player, final String key, final Component title, final Component... lines) {
+    return this.prepare(player, key, BoardTemplate.of(title, lines));
+  }
+
+  /**
+   * Prepares a new scoreboard for the player using the given template.
+   *
+   * @param player the player to who prepare the scoreboard.
+   * @param key the key used to identify this scoreboard between the player's prepared scoreboards.
+   * @param template the scoreboard's template.
+   * @return {@code true} if the scoreboard was prepared, or it was already prepared with this key. Otherwise,
+   *     will return false if the {@link BoardCreateEvent} is cancelled, or the scoreboard couldn't be sent.
+   * @see #prepare(Player, String, Component, Component...)
+   * @since 1.0.0
+   */
+  public boolean prepare(final Player player, final String key, final BoardTemplate template) {
+    final var playerId = player.getUniqueId().toString();
+    final var playerBoards = this.preparedBoards.computeIfAbsent(playerId, id -> new ConcurrentHashMap<>());
+    if (playerBoards.containsKey(key)) {
+      return true;
+    }
+    final var cachedBoardModel = new CachedBoardModel(playerId, SCOREBOARD_OBJECTIVE_BASE_FORMAT.formatted(RANDOM.nextInt()),
+      template, BoardOverlay.EMPTY, true);
+    if (createCancelled(player, cachedBoardModel) || cachedBoardModel.prepare().error()) {
+      return false;
+    }
+    playerBoards.put(key, cachedBoardModel);
+    return true;
+  }
+
+  /**
+   * Displays the player's prepared scoreboard with the given key, replacing the current scoreboard with a
+   * single packet. The previous scoreboard is kept by the player's client if it was prepared, so switching back
+   * to it is instant too, and its lines are refreshed again once it's displayed.
+   *
+   * @param player the player to who switch the scoreboard.
+   * @param key the prepared scoreboard's key.
+   * @return {@code true} if the scoreboard was displayed, or it was already displayed. Otherwise, it will return
+   *     {@code false} if there isn't any prepared scoreboard with that key, or the current scoreboard is turned-off.
+   * @see #prepare(Player, String, Component, Component...)
+   * @since 1.0.0
+   */
+  public boolean switchTo(final Player player, final String key) {
+    final var playerId = player.getUniqueId().toString();
+    final var playerBoards = this.preparedBoards.get(playerId);
+    if (playerBoards == null) {
+      return false;
+    }
+    final var preparedBoard = playerBoards.get(key);
+    if (preparedBoard == null) {
+      return false;
+    }
+    final var currentBoard = this.boardRepository.findSync(playerId);
+    if (currentBoard != null) {
+      if (!currentBoard.visible()) {
+        return false;
+      }
+      // A concealed scoreboard must be displayed again, even if it's the same one.
+      final var concealed = this.concealedBoards.remove(playerId);
+      if (!concealed && currentBoard.objectiveId().equals(preparedBoard.objectiveId())) {
+        return true;
+      }
+      // Scoreboards that weren't prepared aren't kept, so they're deleted from the player's client.
+      if (!prepared(playerBoards, currentBoard.objectiveId())) {
+        currentBoard.delete();
+      }
+    }
+    if (!this.viewedBoards.containsKey(playerId)) {
+      preparedBoard.display();
+    }
+    this.boardRepository.saveSync(preparedBoard);
+    return true;
+  }
+
+  /**
+   * Clears the player's sidebar without deleting their prepared scoreboards, so a later
+   * {@link #switchTo(Player, String)} displays them again with a single packet. Turned-off scoreboards are kept
+   * as they are, and scoreboards that weren't prepared are deleted.
+   *
+   * @param player the player to who conceal the scoreboard.
+   * @since 1.0.0
+   */
+  public void conceal(final Player player) {
+    final var playerId = player.getUniqueId().toString();
+    final var currentBoard = this.boardRepository.findSync(playerId);
+    if ((currentBoard == null) || !currentBoard.visible()) {
+      return;
+    }
+    final var playerBoards = this.preparedBoards.get(playerId);
+    if ((playerBoards != null) && prepared(playerBoards, currentBoard.objectiveId())) {
+      // The sidebar is kept while the player is viewing a shared scoreboard.
+      if (this.concealedBoards.add(playerId) && !this.viewedBoards.containsKey(playerId)) {
+        PacketProviderAccessor.PACKET_PROVIDER_IMPL.clearDisplay(player);
+      }
+      return;
+    }
+    currentBoard.delete();
+    this.boardRepository.deleteSync(playerId);
+  }
+
+  /**
+   * Replaces the given template with the updated one for all the scoreboards that use it in a single pass, only
+   * the lines that have changed, and that aren't modified by the players are sent again.
+   *
+   * @param template the current template.
+   * @param updatedTemplate the updated template.
+   * @return The scoreboards-amount that were updated.
+   * @since 1.0.0
+   */
+  public int updateTemplate(final BoardTemplate template, final BoardTemplate updatedTemplate) {
+    var updatedBoards = 0;
+    for (final var cachedBoardModel : this.boardRepository.findAllSync()) {
+      if (cachedBoardModel.template() != template) continue;
+      final var updatedBoardModel = cachedBoardModel.withTemplate(updatedTemplate);
+      if (cachedBoardModel.visible()) {
+        this.sendTemplateChanges(cachedBoardModel, updatedBoardModel);
+      }
+      this.boardRepository.updateSync(updatedBoardModel);
+      updatedBoards++;
+    }
+    for (final var playerBoards : this.preparedBoards.values()) {
+      for (final var entry : playerBoards.entrySet()) {
+        final var preparedBoard = entry.getValue();
+        if (preparedBoard.template() != template) continue;
+        final var updatedBoardModel = preparedBoard.withTemplate(updatedTemplate);
+        final var currentBoard = this.boardRepository.findSync(preparedBoard.id());
+        // The displayed scoreboard was already updated above.
+        if ((currentBoard == null) || !currentBoard.objectiveId().equals(preparedBoard.objectiveId())) {
+          this.sendTemplateChanges(preparedBoard, updatedBoardModel);
+        }
+        entry.setValue(updatedBoardModel);
+      }
+    }
+    return updatedBoards;
+  }
+
+  private void sendTemplateChanges(final CachedBoardModel cachedBoardModel, final CachedBoardModel updatedBoardModel) {
+    final var template = cachedBoardModel.template();
+    final var updatedTemplate = updatedBoardModel.template();
+    final var overlay = cachedBoardModel.overlay();
+    // The lines' positions depend on the lines-amount, so all of them must be sent if it has changed.
+    if (template.size() != updatedTemplate.size()) {
+      final var currentBoard = this.boardRepository.findSync(updatedBoardModel.id());
+      final var displayed = (currentBoard != null) && currentBoard.objectiveId().equals(updatedBoardModel.objectiveId())
+        && !this.viewedBoards.containsKey(updatedBoardModel.id()) && !this.concealedBoards.contains(updatedBoardModel.id());
+      // Prepared scoreboards must not be displayed when they're sent again.
+      if (displayed) {
+        updatedBoardModel.linesWithoutMutation(updatedBoardModel.lines());
+      } else {
+        updatedBoardModel.prepare();
+      }
+    } else {
+      for (int i = 0; i < updatedTemplate.size(); i++) {
+        if (overlay.overrides(i) || template.lines()[i].equals(updatedTemplate.lines()[i])) continue;
+        updatedBoardModel.lineWithoutMutation(i, updatedTemplate.lines()[i]);
+      }
+    }
+    if ((overlay.title() == null) && !template.title().equals(updatedTemplate.title())) {
+      updatedBoardModel.titleWithoutMutation(updatedTemplate.title());
+    }
+  }
+
+  /**
+   * Deletes all the prepared scoreboards that aren't displayed, used when their content is outdated.
+   *
+   * @since 1.0.0
+   */
+  public void discardPrepared() {
+    for (final var entry : this.preparedBoards.entrySet()) {
+      this.deletePrepared(entry.getKey(), entry.getValue());
+    }
+    this.preparedBoards.clear();
+  }
+
+  private void deletePrepared(final String playerId, final Map<String, CachedBoardModel> playerBoards) {
+    final var currentBoard = this.boardRepository.findSync(playerId);
+    for (final var preparedBoard : playerBoards.values()) {
+      // The displayed scoreboard is deleted by its own operations.
+      if ((currentBoard != null) && currentBoard.objectiveId().equals(preparedBoard.objectiveId())) continue;
+      preparedBoard.delete();
+    }
+  }
+
+  private static boolean prepared(final Map<String, CachedBoardModel> playerBoards, final String objectiveId) {
+    for (final var preparedBoard : playerBoards.values()) {
+      if (preparedBoard.objectiveId().equals(objectiveId)) return true;
+    }
+    return false;
+  }
+
+  /**
+   * Creates a new scoreboard that can be shown to several players at the same time, its modifications are sent
+   * once to all its viewers.
+   *
+   * @param id the identifier for this shared scoreboard.
+   * @param title the scoreboard's title.
+   * @param lines the scoreboard's lines/content.
+   * @return The created {@link SharedBoard}, or the existing one if there's already a shared scoreboard with
+   *     this identifier.
+   * @since 1.0.0
+   */
+  public SharedBoard createShared(final String id, final Component title, final Component... lines) {
+    return this.sharedBoards.computeIfAbsent(id, key ->
+      new SharedBoard(key, SCOREBOARD_OBJECTIVE_BASE_FORMAT.formatted(RANDOM.nextInt()), title, lines));
+  }
+
+  /**
+   * Returns the shared scoreboard with the given identifier.
+   *
+   * @param id the shared scoreboard's identifier.
+   * @return The {@link SharedBoard}, or {@code null} if it doesn't exist.
+   * @since 1.0.0
+   */
+  public @Nullable SharedBoard sharedBoard(final String id) {
+    return this.sharedBoards.get(id);
+  }
+
+  /**
+   * Adds the player as viewer of the given shared scoreboard, it's displayed instead of the player's own
+   * scoreboard while they're viewing it.
+   *
+   * @param player the player to add.
+   * @param id the shared scoreboard's identifier.
+   * @return {@code true} if the player was added. Otherwise, {@code false} if the shared scoreboard doesn't
+   *     exist, or the player was already a viewer.
+   * @see SharedBoard#addViewer(Player)
+   * @since 1.0.0
+   */
+  public boolean addViewer(final Player player, final String id) {
+    final var sharedBoard = this.sharedBoards.get(id);
+    if (sharedBoard == null) {
+      return false;
+    }
+    // A player can only view one shared scoreboard at a time.
+    final var playerId = player.getUniqueId().toString();
+    final var viewedBoard = this.viewedBoards.get(playerId);
+    if ((viewedBoard != null) && (viewedBoard != sharedBoard)) {
+      viewedBoard.removeViewer(player);
+    }
+    if (!sharedBoard.addViewer(player)) {
+      return false;
+    }
+    this.viewedBoards.put(playerId, sharedBoard);
+    return true;
+  }
+
+  /**
+   * Removes the player from the given shared scoreboard's viewers, their own scoreboard is displayed again
+   * if they have one visible.
+   *
+   * @param player the player to remove.
+   * @param id the shared scoreboard's identifier.
+   * @return {@code true} if the player was removed. Otherwise, {@code false} if the shared scoreboard doesn't
+   *     exist, or the player wasn't a viewer.
+   * @see SharedBoard#removeViewer(Player)
+   * @since 1.0.0
+   */
+  public boolean removeViewer(final Player player, final String id) {
+    final var sharedBoard = this.sharedBoards.get(id);
+    if ((sharedBoard == null) || !sharedBoard.removeViewer(player)) {
+      return false;
+    }
+    this.viewedBoards.remove(player.getUniqueId().toString(), sharedBoard);
+    this.displayOwn(player.getUniqueId().toString());
+    return true;
+  }
+
+  /**
+   * Removes the player with the given id from all the shared scoreboards' viewers without sending any packet,
+   * used when the player has disconnected.
+   *
+   * @param playerId the player's unique id.
+   * @since 1.0.0
+   */
+  public void forgetViewer(final UUID playerId) {
+    final var viewedBoard = this.viewedBoards.remove(playerId.toString());
+    if (viewedBoard != null) {
+      viewedBoard.forget(playerId);
+    }
+  }
+
+  /**
+   * Removes the shared scoreboard from all its viewers, and deletes it.
+   *
+   * @param id the shared scoreboard's identifier.
+   * @return {@code true} if the shared scoreboard was deleted, otherwise {@code false} if it doesn't exist.
+   * @since 1.0.0
+   */
+  public boolean deleteShared(final String id) {
+    final var sharedBoard = this.sharedBoards.remove(id);
+    if (sharedBoard == null) {
+      return false;
+    }
+    final var viewers = sharedBoard.viewers().toArray(new UUID[0]);
+    sharedBoard.close();
+    // Viewers get their own scoreboard displayed again.
+    for (final var viewerId : viewers) {
+      this.viewedBoards.remove(viewerId.toString(), sharedBoard);
+      this.displayOwn(viewerId.toString());
+    }
+    return true;
+  }
+
+  private void displayOwn(final String playerId) {
+    // The player's own objective is still at their client, so it only needs to be displayed.
+    final var cachedBoardModel = this.boardRepository.findSync(playerId);
+    if ((cachedBoardModel == null) || !cachedBoardModel.visible() || this.concealedBoards.contains(playerId)) {
+      return;
+    }
+    cachedBoardModel.display();
+  }
+
+  private boolean undisplayed(final String playerId) {
+    // Scoreboards of players viewing a shared scoreboard, or concealed outside any section aren't displayed.
+    return this.viewedBoards.containsKey(playerId) || this.concealedBoards.contains(playerId);
+  }
+
+  private static BoardModificationStatusProvider prepareUndisplayed(final CachedBoardModel modifiedBoard) {
+    // The scoreboard is sent again without being displayed, as it mustn't be shown to the player.
+    return modifiedBoard.prepare().error()
+      ? BoardModificationStatusProvider.withError()
+      : BoardModificationStatusProvider.withModifiedLines(modifiedBoard);
+  }
+
+  private static BoardModificationStatusProvider turnOnUndisplayed(final CachedBoardModel cachedBoardModel) {
+    final var turnedOnBoard = new CachedBoardModel(cachedBoardModel.id(), cachedBoardModel.objectiveId(),
+      cachedBoardModel.template(), cachedBoardModel.overlay(), true);
+    return turnedOnBoard.prepare().error()
+      ? BoardModificationStatusProvider.withError()
+      : BoardModificationStatusProvider.withTurnOn(turnedOnBoard);
+  }
+
   /**
    * Deletes the player's scoreboard, and removes the model from cache.
    *
@@ -98,7 +489,14 @@ public class BoardManager {
    * @since 1.0.0
    */
   public boolean delete(final Player player) {
-    Bukkit.getPluginManager().callEvent(new BoardDeleteEvent(player));
+    if (listened(BoardDeleteEvent.getHandlerList())) {
+      Bukkit.getPluginManager().callEvent(new BoardDeleteEvent(player));
+    }
+    this.concealedBoards.remove(player.getUniqueId().toString());
+    final var playerBoards = this.preparedBoards.remove(player.getUniqueId().toString());
+    if (playerBoards != null) {
+      this.deletePrepared(player.getUniqueId().toString(), playerBoards);
+    }
     // Board deleting for player, and from repository's cache.
     // Ignore provided status for deletion operation, the model must be removed from cache.
     return this.boardRepository.deleteSync(player.getUniqueId().toString());
@@ -119,15 +517,31 @@ public class BoardManager {
     if (cachedBoardModel == null) {
       return false;
     }
-    final var boardToggleEvent = new BoardToggleEvent(player, cachedBoardModel.visible());
-    Bukkit.getPluginManager().callEvent(boardToggleEvent);
-    if (boardToggleEvent.isCancelled()) {
-      return false;
+    if (listened(BoardToggleEvent.getHandlerList())) {
+      final var boardToggleEvent = new BoardToggleEvent(player, cachedBoardModel.visible());
+      Bukkit.getPluginManager().callEvent(boardToggleEvent);
+      if (boardToggleEvent.isCancelled()) {
+        return false;
+      }
     }
-    final var boardToggleStatus = cachedBoardModel.toggle();
+    final var boardToggleStatus = this.viewedBoards.containsKey(cachedBoardModel.id()) && !cachedBoardModel.visible()
+      ? turnOnUndisplayed(cachedBoardModel)
+      : cachedBoardModel.toggle();
     if (boardToggleStatus.error()) {
       return false;
     }
+    // The turned-off scoreboard's objective is deleted, so it can't be displayed again as a prepared scoreboard.
+    final var playerBoards = this.preparedBoards.get(cachedBoardModel.id());
+    if (!boardToggleStatus.turnedOn() && (playerBoards != null)) {
+      playerBoards.values().removeIf(preparedBoard -> preparedBoard.objectiveId().equals(cachedBoardModel.objectiveId()));
+    }
+    // A concealed scoreboard that is turned-on again must not be displayed yet.
+    if (boardToggleStatus.turnedOn() && this.concealedBoards.contains(cachedBoardModel.id())
+      && !this.viewedBoards.containsKey(cachedBoardModel.id())) {
+      PacketProviderAccessor.PACKET_PROVIDER_IMPL.clearDisplay(player);
+    } else if (!boardToggleStatus.turnedOn()) {
+      this.concealedBoards.remove(cachedBoardModel.id());
+    }
     // At this point it's not null.
     this.boardRepository.updateSync(boardToggleStatus.result());
     return boardToggleStatus.turnedOn();
@@ -150,11 +564,18 @@ public class BoardManager {
     if ((cachedBoardModel == null) || !cachedBoardModel.visible()) {
       return false;
     }
-    final var linesModificationStatus = cachedBoardModel.lines(lines);
+    final var linesModificationStatus = this.undisplayed(cachedBoardModel.id())
+      ? prepareUndisplayed(cachedBoardModel.withLines(lines))
+      : cachedBoardModel.lines(lines);
     if (linesModificationStatus.error()) {
       return false;
     }
-    Bukkit.getPluginManager().callEvent(new BoardLinesModificationEvent(player, lines));
+    if (listened(BoardLinesModificationEvent.getHandlerList())) {
+      Bukkit.getPluginManager().callEvent(new BoardLinesModificationEvent(player, lines));
+    }
+    for (final var changeListener : this.changeListeners) {
+      changeListener.linesModified(player, lines);
+    }
     this.boardRepository.updateSync(linesModificationStatus.result());
     return true;
   }
@@ -181,7 +602,12 @@ public class BoardManager {
     if (lineModificationStatus.error()) {
       return false;
     }
-    Bukkit.getPluginManager().callEvent(new BoardSingleLineModificationEvent(player, (byte) line, text));
+    if (listened(BoardSingleLineModificationEvent.getHandlerList())) {
+      Bukkit.getPluginManager().callEvent(new BoardSingleLineModificationEvent(player, (byte) line, text));
+    }
+    for (final var changeListener : this.changeListeners) {
+      changeListener.lineModified(player, line, text);
+    }
     // Update previous board-model with new modified model.
     this.boardRepository.updateSync(lineModificationStatus.result());
     return true;
@@ -204,13 +630,21 @@ public class BoardManager {
     if ((cachedBoardModel == null) || !cachedBoardModel.visible()) {
       return false;
     }
-    final var lineRemovalStatus = cachedBoardModel.removeLine(line);
+    final var lineRemovalStatus = (this.undisplayed(cachedBoardModel.id())
+      && (line >= 0) && (line < cachedBoardModel.template().size()))
+      ? prepareUndisplayed(cachedBoardModel.withoutLine(line))
+      : cachedBoardModel.removeLine(line);
     if (lineRemovalStatus.error()) {
       return false;
     }
     // At this point it's not null.
     final var modifiedBoard = lineRemovalStatus.result();
-    Bukkit.getPluginManager().callEvent(new BoardLinesModificationEvent(player, modifiedBoard.lines()));
+    if (listened(BoardLinesModificationEvent.getHandlerList())) {
+      Bukkit.getPluginManager().callEvent(new BoardLinesModificationEvent(player, modifiedBoard.lines()));
+    }
+    for (final var changeListener : this.changeListeners) {
+      changeListener.linesModified(player, modifiedBoard.lines());
+    }
     this.boardRepository.updateSync(modifiedBoard);
     return true;
   }
@@ -236,11 +670,231 @@ public class BoardManager {
     if (titleModificationStatus.error()) {
       return false;
     }
-    Bukkit.getPluginManager().callEvent(new BoardTitleModificationEvent(player, title));
+    if (listened(BoardTitleModificationEvent.getHandlerList())) {
+      Bukkit.getPluginManager().callEvent(new BoardTitleModificationEvent(player, title));
+    }
+    for (final var changeListener : this.changeListeners) {
+      changeListener.titleModified(player, title);
+    }
     this.boardRepository.updateSync(titleModificationStatus.result());
     return true;
   }
 
+  /**
+   * Sets new content/lines for the scoreboards of all the given players at once, firing a single
+   * {@link BoardBulkModificationEvent} instead of an event for each player.
+   *
+   * @param players the players to who modify the scoreboard's lines.
+   * @param lines the new lines to be shown within the scoreboards.
+   * @return The scoreboards-amount that were modified, players without a visible scoreboard are ignored.
+   * @see #lines(Player, Component...)
+   * @since 1.0.0
+   */
+  public int lines(final Collection<? extends Player> players, final Component... lines) {
+    final var cachedBoardModels = this.visibleBoards(players);
+    if (cachedBoardModels.isEmpty()) {
+      return 0;
+    }
+    // Scoreboards with the same title share the same new template.
+    final var templates = new HashMap<Component, BoardTemplate>();
+    final var displayedObjectives = new LinkedHashMap<Player, String>(cachedBoardModels.size());
+    for (final var entry : cachedBoardModels.entrySet()) {
+      final var cachedBoardModel = entry.getValue();
+      final var template = templates.computeIfAbsent(cachedBoardModel.title(), title -> BoardTemplate.of(title, lines));
+      final var modifiedBoard = new CachedBoardModel(cachedBoardModel.id(), cachedBoardModel.objectiveId(), template,
+        BoardOverlay.EMPTY, true);
+      // Scoreboards that mustn't be shown to their players are only sent, not displayed.
+      if (this.undisplayed(cachedBoardModel.id())) {
+        modifiedBoard.prepare();
+      } else {
+        displayedObjectives.put(entry.getKey(), cachedBoardModel.objectiveId());
+      }
+      this.boardRepository.updateSync(modifiedBoard);
+    }
+    PacketProviderAccessor.PACKET_PROVIDER_IMPL.sendLines(displayedObjectives, lines);
+    if (listened(BoardBulkModificationEvent.getHandlerList())) {
+      Bukkit.getPluginManager().callEvent(
+        new BoardBulkModificationEvent(List.copyOf(cachedBoardModels.keySet()), null, lines));
+    }
+    for (final var changeListener : this.changeListeners) {
+      for (final var player : cachedBoardModels.keySet()) {
+        changeListener.linesModified(player, lines);
+      }
+    }
+    return cachedBoardModels.size();
+  }
+
+  /**
+   * Sets a new title-component for the scoreboards of all the given players at once, firing a single
+   * {@link BoardBulkModificationEvent} instead of an event for each player.
+   *
+   * @param players the players to who modify the scoreboard's title.
+   * @param title the new title to be shown within the scoreboards.
+   * @return The scoreboards-amount that were modified, players without a visible scoreboard are ignored.
+   * @see #title(Player, Component)
+   * @since 1.0.0
+   */
+  public int title(final Collection<? extends Player> players, final Component title) {
+    final var cachedBoardModels = this.visibleBoards(players);
+    if (cachedBoardModels.isEmpty()) {
+      return 0;
+    }
+    for (final var cachedBoardModel : cachedBoardModels.values()) {
+      this.boardRepository.updateSync(new CachedBoardModel(cachedBoardModel.id(), cachedBoardModel.objectiveId(),
+        cachedBoardModel.template(), cachedBoardModel.overlay().withTitle(title), true));
+    }
+    PacketProviderAccessor.PACKET_PROVIDER_IMPL.sendTitle(objectives(cachedBoardModels), title);
+    if (listened(BoardBulkModificationEvent.getHandlerList())) {
+      Bukkit.getPluginManager().callEvent(
+        new BoardBulkModificationEvent(List.copyOf(cachedBoardModels.keySet()), title, null));
+    }
+    for (final var changeListener : this.changeListeners) {
+      for (final var player : cachedBoardModels.keySet()) {
+        changeListener.titleModified(player, title);
+      }
+    }
+    return cachedBoardModels.size();
+  }
+
+  /**
+   * Sets new content/lines for the scoreboards of all the online players that match the given filter.
+   *
+   * @param filter the filter used to select the players.
+   * @param lines the new lines to be shown within the scoreboards.
+   * @return The scoreboards-amount that were modified.
+   * @see #lines(Collection, Component...)
+   * @since 1.0.0
+   */
+  public int broadcastLines(final Predicate<? super Player> filter, final Component... lines) {
+    return this.lines(this.matchingPlayers(filter), lines);
+  }
+
+  /**
+   * Sets a new title-component for the scoreboards of all the online players that match the given filter.
+   *
+   * @param filter the filter used to select the players.
+   * @param title the new title to be shown within the scoreboards.
+   * @return The scoreboards-amount that were modified.
+   * @see #title(Collection, Component)
+   * @since 1.0.0
+   */
+  public int broadcastTitle(final Predicate<? super Player> filter, final Component title) {
+    return this.title(this.matchingPlayers(filter), title);
+  }
+
+  private Map<Player, CachedBoardModel> visibleBoards(final Collection<? extends Player> players) {
+    final var cachedBoardModels = new LinkedHashMap<Player, CachedBoardModel>(players.size());
+    for (final var player : players) {
+      if (!player.isOnline()) continue;
+      final var cachedBoardModel = this.boardRepository.findSync(player.getUniqueId().toString());
+      if ((cachedBoardModel == null) || !cachedBoardModel.visible()) continue;
+      cachedBoardModels.put(player, cachedBoardModel);
+    }
+    return cachedBoardModels;
+  }
+
+  private List<Player> matchingPlayers(final Predicate<? super Player> filter) {
+    final var players = new ArrayList<Player>();
+    for (final var cachedBoardModel : this.boardRepository.findAllSync()) {
+      final var player = cachedBoardModel.player();
+      if ((player == null) || !filter.test(player)) continue;
+      players.add(player);
+    }
+    return players;
+  }
+
+  private static Map<Player, String> objectives(final Map<Player, CachedBoardModel> cachedBoardModels) {
+    final var objectives = new LinkedHashMap<Player, String>(cachedBoardModels.size());
+    for (final var entry : cachedBoardModels.entrySet()) {
+      objectives.put(entry.getKey(), entry.getValue().objectiveId());
+    }
+    return objectives;
+  }
+
+  /**
+   * Registers a listener that is notified of the scoreboards' modifications without firing Bukkit events.
+   *
+   * @param changeListener the listener to register.
+   * @see BoardChangeListener
+   * @since 1.0.0
+   */
+  public void addChangeListener(final BoardChangeListener changeListener) {
+    this.changeListeners.add(changeListener);
+  }
+
+  /**
+   * Unregisters the given listener.
+   *
+   * @param changeListener the listener to unregister.
+   * @since 1.0.0
+   */
+  public void removeChangeListener(final BoardChangeListener changeListener) {
+    this.changeListeners.remove(changeListener);
+  }
+
+  private static boolean listened(final HandlerList handlerList) {
+    // Events without listeners aren't created nor dispatched at all.
+    return handlerList.getRegisteredListeners().length > 0;
+  }
+
+  private static boolean createCancelled(final Player player, final CachedBoardModel cachedBoardModel) {
+    if (!listened(BoardCreateEvent.getHandlerList())) {
+      return false;
+    }
+    final var boardCreateEvent = new BoardCreateEvent(player, cachedBoardModel);
+    Bukkit.getPluginManager().callEvent(boardCreateEvent);
+    return boardCreateEvent.isCancelled();
+  }
+
+  /**
+   * Sets the handler used to re-render the lines when a placeholder is invalidated.
+   *
+   * @param invalidationHandler the handler to use, or {@code null} to ignore the invalidations.
+   * @since 1.0.0
+   */
+  public void invalidationHandler(final @Nullable BoardInvalidationHandler invalidationHandler) {
+    this.invalidationHandler = invalidationHandler;
+  }
+
+  /**
+   * Notifies that the given placeholder's value has changed for the player, so the scoreboard's lines that
+   * depend on it are re-rendered immediately.
+   *
+   * @param player the player that owns the scoreboard.
+   * @param placeholder the placeholder which value has changed, including its '%' delimiters.
+   * @return {@code true} if the invalidation was handled. Otherwise, it will return {@code false} if there isn't
+   *     any invalidation-handler, or the player doesn't have a visible scoreboard.
+   * @see BoardInvalidationHandler#invalidate(Player, String)
+   * @since 1.0.0
+   */
+  public boolean invalidate(final Player player, final String placeholder) {
+    final var invalidationHandler = this.invalidationHandler;
+    if (invalidationHandler == null) {
+      return false;
+    }
+    final var cachedBoardModel = this.boardRepository.findSync(player.getUniqueId().toString());
+    if ((cachedBoardModel == null) || !cachedBoardModel.visible()) {
+      return false;
+    }
+    invalidationHandler.invalidate(player, placeholder);
+    return true;
+  }
+
+  /**
+   * Notifies that the given placeholder's value has changed for all the players.
+   *
+   * @param placeholder the placeholder which value has changed, including its '%' delimiters.
+   * @see #invalidate(Player, String)
+   * @since 1.0.0
+   */
+  public void invalidateAll(final String placeholder) {
+    for (final var cachedBoardModel : this.boardRepository.findAllSync()) {
+      final var player = cachedBoardModel.player();
+      if (player == null) continue;
+      this.invalidate(player, placeholder);
+    }
+  }
+
   /**
    * Deletes all the cached-boards for the yet online players, then removes all the models from
    * the repository's cache.
@@ -248,6 +902,13 @@ public class BoardManager {
    * @since 1.0.0
    */
   public void close() {
+    this.discardPrepared();
+    this.concealedBoards.clear();
+    for (final var sharedBoard : this.sharedBoards.values()) {
+      sharedBoard.close();
+    }
+    this.sharedBoards.clear();
+    this.viewedBoards.clear();
     // Deleting all visible, and turned-on scoreboards before models deletion.
     for (final var cachedBoardModel : this.boardRepository.findAllSync()) {
       if (!cachedBoardModel.visible()) continue;
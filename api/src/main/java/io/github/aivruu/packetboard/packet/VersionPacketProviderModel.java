@@ -19,6 +19,9 @@ package io.github.aivruu.packetboard.packet;
 import net.kyori.adventure.text.Component;
 import org.bukkit.entity.Player;
 
+import java.util.Collection;
+import java.util.Map;
+
 /**
  * This interface is used as base-model for internal scoreboards creation and modification functions
  * using minecraft-protocol.
@@ -37,6 +40,28 @@ public interface VersionPacketProviderModel {
    */
   void create(final Player player, final String scoreboardObjectiveId, final Component title, final Component... lines);
 
+  /**
+   * Sends the correspond packets for the player's scoreboard creation with the given title and lines, but
+   * without displaying it, so it can be displayed later with {@link #display(Player, String)}.
+   *
+   * @param player the player to who prepare this scoreboard.
+   * @param scoreboardObjectiveId the player's scoreboard's objective's unique id.
+   * @param title the title of the scoreboard.
+   * @param lines the lines of the scoreboard.
+   * @since 1.0.0
+   */
+  void prepare(final Player player, final String scoreboardObjectiveId, final Component title, final Component... lines);
+
+  /**
+   * Sends the correspond packet to display the given prepared scoreboard at the player's sidebar, replacing
+   * the scoreboard that was displayed before, which is kept by the player's client.
+   *
+   * @param player the player to who display the scoreboard.
+   * @param scoreboardObjectiveId the player's scoreboard's objective's unique id.
+   * @since 1.0.0
+   */
+  void display(final Player player, final String scoreboardObjectiveId);
+
   /**
    * Sends the correspond packets for the player's scoreboard's lines modification.
    *
@@ -58,6 +83,17 @@ public interface VersionPacketProviderModel {
    */
   void sendLine(final Player player, final int line, final Component text, final String scoreboardObjectiveId);
 
+  /**
+   * Sends the correspond packets for the player's scoreboard's specific line removal, the rest of the lines
+   * keep their positions.
+   *
+   * @param player the player to who remove the scoreboard's line.
+   * @param line the line-number to be removed.
+   * @param scoreboardObjectiveId the player's scoreboard's objective's unique id.
+   * @since 1.0.0
+   */
+  void removeLine(final Player player, final int line, final String scoreboardObjectiveId);
+
   /**
    * Sends the correspond packets for the player's scoreboard's title modification.
    *
@@ -76,4 +112,85 @@ public interface VersionPacketProviderModel {
    * @since 1.0.0
    */
   void delete(final Player player, final String scoreboardObjectiveId);
+
+  /**
+   * Sends the correspond packet to remove the scoreboard from the player's client, without deleting the
+   * scoreboard's objective, so it can be shown again to this, or other players.
+   *
+   * @param player the player to who remove the scoreboard.
+   * @param scoreboardObjectiveId the scoreboard's objective's unique id.
+   * @since 1.0.0
+   */
+  void remove(final Player player, final String scoreboardObjectiveId);
+
+  /**
+   * Sends the correspond packet to clear the player's sidebar, the scoreboards already sent to the player's
+   * client are kept, so they can be displayed again later.
+   *
+   * @param player the player to who clear the sidebar.
+   * @since 1.0.0
+   */
+  void clearDisplay(final Player player);
+
+  /**
+   * Deletes the scoreboard's objective without sending any packet, used once the scoreboard doesn't have
+   * any viewer anymore.
+   *
+   * @param scoreboardObjectiveId the scoreboard's objective's unique id.
+   * @since 1.0.0
+   */
+  void dispose(final String scoreboardObjectiveId);
+
+  /**
+   * Sends the correspond packets for the scoreboard's specific line modification to all the given viewers,
+   * the packet is created only once and written to every viewer.
+   *
+   * @param viewers the players that are viewing the scoreboard.
+   * @param line the line-number to be modified.
+   * @param text the text to be set for that line.
+   * @param scoreboardObjectiveId the scoreboard's objective's unique id.
+   * @since 1.0.0
+   */
+  void sendLine(final Collection<? extends Player> viewers, final int line, final Component text,
+                final String scoreboardObjectiveId);
+
+  /**
+   * Sends the correspond packets for the scoreboard's specific line removal to all the given viewers.
+   *
+   * @param viewers the players that are viewing the scoreboard.
+   * @param line the line-number to be removed.
+   * @param scoreboardObjectiveId the scoreboard's objective's unique id.
+   * @since 1.0.0
+   */
+  void removeLine(final Collection<? extends Player> viewers, final int line, final String scoreboardObjectiveId);
+
+  /**
+   * Sends the correspond packets for the scoreboard's title modification to all the given viewers.
+   *
+   * @param viewers the players that are viewing the scoreboard.
+   * @param title the new title to be shown within the scoreboard.
+   * @param scoreboardObjectiveId the scoreboard's objective's unique id.
+   * @since 1.0.0
+   */
+  void sendTitle(final Collection<? extends Player> viewers, final Component title, final String scoreboardObjectiveId);
+
+  /**
+   * Sends the correspond packets for the lines modification to several players' scoreboards at once, the
+   * lines are converted only once, and shared between all the sent packets.
+   *
+   * @param scoreboards the players mapped to their scoreboard's objective's unique id.
+   * @param lines the new lines to be shown within the scoreboards.
+   * @since 1.0.0
+   */
+  void sendLines(final Map<? extends Player, String> scoreboards, final Component... lines);
+
+  /**
+   * Sends the correspond packets for the title modification to several players' scoreboards at once, the
+   * title is converted only once, and shared between all the sent packets.
+   *
+   * @param scoreboards the players mapped to their scoreboard's objective's unique id.
+   * @param title the new title to be shown within the scoreboards.
+   * @since 1.0.0
+   */
+  void sendTitle(final Map<? extends Player, String> scoreboards, final Component title);
 }
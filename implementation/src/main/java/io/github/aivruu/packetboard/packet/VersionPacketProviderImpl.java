@@ -20,6 +20,7 @@ import io.papermc.paper.adventure.AdventureComponent;
 import net.kyori.adventure.text.Component;
 import net.minecraft.network.chat.numbers.BlankFormat;
 import net.minecraft.network.chat.numbers.NumberFormat;
+import net.minecraft.network.protocol.game.ClientboundResetScorePacket;
 import net.minecraft.network.protocol.game.ClientboundSetDisplayObjectivePacket;
 import net.minecraft.network.protocol.game.ClientboundSetObjectivePacket;
 import net.minecraft.network.protocol.game.ClientboundSetScorePacket;
@@ -32,6 +33,8 @@ import net.minecraft.world.scores.criteria.ObjectiveCriteria;
 import org.bukkit.craftbukkit.entity.CraftPlayer;
 import org.bukkit.entity.Player;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -42,30 +45,51 @@ import java.util.Optional;
  */
 public class VersionPacketProviderImpl implements VersionPacketProviderModel {
   private static final Optional<NumberFormat> NUMBER_FORMAT = Optional.of(BlankFormat.INSTANCE);
+  private static final String SCORE_HOLDER_PREFIX = "line-";
   private final ServerScoreboard serverScoreboard = MinecraftServer.getServer().getScoreboard();
   private ClientboundSetScorePacket clientboundSetScorePacket;
 
   @Override
   public void create(final Player player, final String scoreboardObjectiveId, final Component title, final Component... lines) {
+    this.prepare(player, scoreboardObjectiveId, title, lines);
+    this.display(player, scoreboardObjectiveId);
+  }
+
+  @Override
+  public void prepare(final Player player, final String scoreboardObjectiveId, final Component title, final Component... lines) {
     final var serverPlayerConnection = ((CraftPlayer) player).getHandle().connection;
-    final var playerOwnerId = player.getUniqueId().toString();
-    // Scoreboard objectives declaration and packet-sending.
-    final var objective = this.serverScoreboard.addObjective(scoreboardObjectiveId, ObjectiveCriteria.DUMMY,
-      new AdventureComponent(title), ObjectiveCriteria.RenderType.INTEGER, false, BlankFormat.INSTANCE);
+    // Scoreboard objectives declaration and packet-sending, shared scoreboards re-use their objective for each viewer.
+    var objective = this.serverScoreboard.getObjective(scoreboardObjectiveId);
+    if (objective == null) {
+      objective = this.serverScoreboard.addObjective(scoreboardObjectiveId, ObjectiveCriteria.DUMMY,
+        new AdventureComponent(title), ObjectiveCriteria.RenderType.INTEGER, false, BlankFormat.INSTANCE);
+    } else {
+      objective.setDisplayName(new AdventureComponent(title));
+    }
     serverPlayerConnection.send(new ClientboundSetObjectivePacket(objective, ClientboundSetObjectivePacket.METHOD_REMOVE));
     serverPlayerConnection.send(new ClientboundSetObjectivePacket(objective, ClientboundSetObjectivePacket.METHOD_ADD));
-    serverPlayerConnection.send(new ClientboundSetDisplayObjectivePacket(DisplaySlot.SIDEBAR, objective));
     // Scoreboard scores declaration and packet-sending.
     for (int i = 0; i < lines.length; i++) {
-      this.sendScorePacket(serverPlayerConnection, playerOwnerId, objective.getName(),
-        (lines.length - i), new AdventureComponent(lines[i]));
+      this.sendScorePacket(serverPlayerConnection, objective.getName(), (lines.length - i), new AdventureComponent(lines[i]));
     }
   }
 
-  private void sendScorePacket(final ServerPlayerConnection serverPlayerConnection, final String ownerName, final String objectiveName,
+  @Override
+  public void display(final Player player, final String scoreboardObjectiveId) {
+    final var objective = this.serverScoreboard.getObjective(scoreboardObjectiveId);
+    // The objective for this player's scoreboard never will be null at this point.
+    ((CraftPlayer) player).getHandle().connection.send(new ClientboundSetDisplayObjectivePacket(DisplaySlot.SIDEBAR, objective));
+  }
+
+  private static String scoreHolder(final int scoreIndex) {
+    // Each line needs its own score-holder, otherwise every line would replace the previous one.
+    return SCORE_HOLDER_PREFIX + scoreIndex;
+  }
+
+  private void sendScorePacket(final ServerPlayerConnection serverPlayerConnection, final String objectiveName,
                                final int scoreIndex, final net.minecraft.network.chat.Component component) {
     this.clientboundSetScorePacket = new ClientboundSetScorePacket(
-      ownerName, objectiveName, scoreIndex,
+      scoreHolder(scoreIndex), objectiveName, scoreIndex,
       Optional.of(component),
       NUMBER_FORMAT);
     serverPlayerConnection.send(clientboundSetScorePacket);
@@ -84,18 +108,19 @@ public class VersionPacketProviderImpl implements VersionPacketProviderModel {
     final var objective = this.serverScoreboard.getObjective(scoreboardObjectiveId);
     this.sendObjectivePackets(serverPlayerConnection, objective);
     for (int i = 0; i < lines.length; i++) {
-      this.sendScorePacket(serverPlayerConnection, player.getName(), objective.getName(),
-        (lines.length - i), new AdventureComponent(lines[i]));
+      this.sendScorePacket(serverPlayerConnection, objective.getName(), (lines.length - i), new AdventureComponent(lines[i]));
     }
   }
 
   @Override
   public void sendLine(final Player player, final int line, final Component text, final String scoreboardObjectiveId) {
-    final var serverPlayerConnection = ((CraftPlayer) player).getHandle().connection;
-    final var objective = this.serverScoreboard.getObjective(scoreboardObjectiveId);
-    this.sendObjectivePackets(serverPlayerConnection, objective);
-    this.sendScorePacket(serverPlayerConnection, player.getUniqueId().toString(), objective.getName(),
-      line, new AdventureComponent(text));
+    // Only the line's score is sent, re-sending the objective would clear the rest of the lines.
+    this.sendScorePacket(((CraftPlayer) player).getHandle().connection, scoreboardObjectiveId, line, new AdventureComponent(text));
+  }
+
+  @Override
+  public void removeLine(final Player player, final int line, final String scoreboardObjectiveId) {
+    ((CraftPlayer) player).getHandle().connection.send(new ClientboundResetScorePacket(scoreHolder(line), scoreboardObjectiveId));
   }
 
   @Override
@@ -115,4 +140,85 @@ public class VersionPacketProviderImpl implements VersionPacketProviderModel {
       .send(new ClientboundSetObjectivePacket(objective, ClientboundSetObjectivePacket.METHOD_REMOVE));
     this.serverScoreboard.removeObjective(objective);
   }
+
+  @Override
+  public void remove(final Player player, final String scoreboardObjectiveId) {
+    final var objective = this.serverScoreboard.getObjective(scoreboardObjectiveId);
+    if (objective == null) return;
+    ((CraftPlayer) player).getHandle().connection
+      .send(new ClientboundSetObjectivePacket(objective, ClientboundSetObjectivePacket.METHOD_REMOVE));
+  }
+
+  @Override
+  public void clearDisplay(final Player player) {
+    // A display-packet without objective empties the sidebar's slot.
+    ((CraftPlayer) player).getHandle().connection.send(new ClientboundSetDisplayObjectivePacket(DisplaySlot.SIDEBAR, null));
+  }
+
+  @Override
+  public void dispose(final String scoreboardObjectiveId) {
+    final var objective = this.serverScoreboard.getObjective(scoreboardObjectiveId);
+    if (objective == null) return;
+    this.serverScoreboard.removeObjective(objective);
+  }
+
+  @Override
+  public void sendLine(final Collection<? extends Player> viewers, final int line, final Component text,
+                       final String scoreboardObjectiveId) {
+    // The packet is created only once, and written to every viewer's connection.
+    final var packet = new ClientboundSetScorePacket(scoreHolder(line), scoreboardObjectiveId, line,
+      Optional.of(new AdventureComponent(text)), NUMBER_FORMAT);
+    for (final var viewer : viewers) {
+      ((CraftPlayer) viewer).getHandle().connection.send(packet);
+    }
+  }
+
+  @Override
+  public void removeLine(final Collection<? extends Player> viewers, final int line, final String scoreboardObjectiveId) {
+    final var packet = new ClientboundResetScorePacket(scoreHolder(line), scoreboardObjectiveId);
+    for (final var viewer : viewers) {
+      ((CraftPlayer) viewer).getHandle().connection.send(packet);
+    }
+  }
+
+  @Override
+  public void sendTitle(final Collection<? extends Player> viewers, final Component title, final String scoreboardObjectiveId) {
+    final var objective = this.serverScoreboard.getObjective(scoreboardObjectiveId);
+    if (objective == null) return;
+    objective.setDisplayName(new AdventureComponent(title));
+    final var packet = new ClientboundSetObjectivePacket(objective, ClientboundSetObjectivePacket.METHOD_CHANGE);
+    for (final var viewer : viewers) {
+      ((CraftPlayer) viewer).getHandle().connection.send(packet);
+    }
+  }
+
+  @Override
+  public void sendLines(final Map<? extends Player, String> scoreboards, final Component... lines) {
+    // The converted lines are shared by every scoreboard's packets.
+    final var convertedLines = new AdventureComponent[lines.length];
+    for (int i = 0; i < lines.length; i++) {
+      convertedLines[i] = new AdventureComponent(lines[i]);
+    }
+    for (final var entry : scoreboards.entrySet()) {
+      final var objective = this.serverScoreboard.getObjective(entry.getValue());
+      if (objective == null) continue;
+      final var serverPlayerConnection = ((CraftPlayer) entry.getKey()).getHandle().connection;
+      this.sendObjectivePackets(serverPlayerConnection, objective);
+      for (int i = 0; i < convertedLines.length; i++) {
+        this.sendScorePacket(serverPlayerConnection, objective.getName(), (convertedLines.length - i), convertedLines[i]);
+      }
+    }
+  }
+
+  @Override
+  public void sendTitle(final Map<? extends Player, String> scoreboards, final Component title) {
+    final var convertedTitle = new AdventureComponent(title);
+    for (final var entry : scoreboards.entrySet()) {
+      final var objective = this.serverScoreboard.getObjective(entry.getValue());
+      if (objective == null) continue;
+      objective.setDisplayName(convertedTitle);
+      ((CraftPlayer) entry.getKey()).getHandle().connection
+        .send(new ClientboundSetObjectivePacket(objective, ClientboundSetObjectivePacket.METHOD_CHANGE));
+    }
+  }
 }
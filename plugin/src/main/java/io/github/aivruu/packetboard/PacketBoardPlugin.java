@@ -16,7 +16,10 @@
 // along with this program. If not, see <https://www.gnu.org/licenses/>.
 package io.github.aivruu.packetboard;
 
+import io.github.aivruu.packetboard.activity.PlayerActivityTracker;
+import io.github.aivruu.packetboard.animation.ColorEffectGenerator;
 import io.github.aivruu.packetboard.board.CachedBoardModel;
+import io.github.aivruu.packetboard.cache.ComponentInterner;
 import io.github.aivruu.packetboard.command.MainCommand;
 import io.github.aivruu.packetboard.command.RegistrableCommandModel;
 import io.github.aivruu.packetboard.command.ScoreboardControlCommand;
@@ -24,12 +27,19 @@ import io.github.aivruu.packetboard.config.ConfigurationProvider;
 import io.github.aivruu.packetboard.config.object.MessagesConfigModel;
 import io.github.aivruu.packetboard.config.object.SettingsConfigModel;
 import io.github.aivruu.packetboard.factory.ScoreboardFactory;
+import io.github.aivruu.packetboard.listener.PlayerActivityListener;
 import io.github.aivruu.packetboard.listener.PlayerRegistryListener;
+import io.github.aivruu.packetboard.listener.SectionSwitchListener;
 import io.github.aivruu.packetboard.manager.BoardManager;
+import io.github.aivruu.packetboard.placeholder.CompiledTemplate;
+import io.github.aivruu.packetboard.placeholder.PlaceholderResultCache;
+import io.github.aivruu.packetboard.profiler.RenderProfiler;
 import io.github.aivruu.packetboard.board.BoardRepositoryModel;
 import io.github.aivruu.packetboard.repository.RepositoryModel;
+import io.github.aivruu.packetboard.section.SectionSelector;
+import io.github.aivruu.packetboard.task.AnimationPluginTask;
 import io.github.aivruu.packetboard.task.LinesUpdatePluginTask;
-import io.github.aivruu.packetboard.task.TitleAnimationPluginTask;
+import io.github.aivruu.packetboard.util.LuckPermsUtil;
 import io.papermc.paper.plugin.lifecycle.event.types.LifecycleEvents;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
@@ -44,9 +54,15 @@ public final class PacketBoardPlugin extends JavaPlugin implements PacketBoard {
   private ConfigurationProvider<MessagesConfigModel> messagesConfigProvider;
   private RepositoryModel<CachedBoardModel> boardRepository;
   private BoardManager boardManager;
+  private PlayerActivityTracker activityTracker;
+  private PlaceholderResultCache placeholderResultCache;
+  private RenderProfiler profiler;
+  private SectionSelector sectionSelector;
   private PlayerRegistryListener scoreboardsRegistryListener;
+  private SectionSwitchListener sectionSwitchListener;
+  private ScoreboardFactory scoreboardFactory;
   private LinesUpdatePluginTask linesUpdatePluginTask;
-  private TitleAnimationPluginTask titleAnimationPluginTask;
+  private AnimationPluginTask animationPluginTask;
 
   @Override
   public RepositoryModel<CachedBoardModel> boardRepository() {
@@ -77,12 +93,19 @@ public final class PacketBoardPlugin extends JavaPlugin implements PacketBoard {
     // Main plugin APIs and controllers initialization process.
     this.boardRepository = new BoardRepositoryModel();
     this.boardManager = new BoardManager(this.boardRepository);
+    this.activityTracker = new PlayerActivityTracker(this.settingsConfigProvider.configModel());
+    this.profiler = new RenderProfiler(this.settingsConfigProvider.configModel());
+    this.placeholderResultCache = new PlaceholderResultCache(this.profiler, this.settingsConfigProvider.configModel());
+    CompiledTemplate.legacyComponentCache().maxSize(this.settingsConfigProvider.configModel().legacyComponentCacheSize);
+    this.sectionSelector = new SectionSelector(this.settingsConfigProvider.configModel());
+    // Players' primary-groups are cached, and kept updated through LuckPerms' events.
+    LuckPermsUtil.subscribeGroupsCache(this);
     this.logger.info(Component.text("Initialized main plugin APIs.").color(NamedTextColor.YELLOW));
     this.registerPluginTasks();
     this.logger.info(Component.text("Initialized necessary plugin-tasks.").color(NamedTextColor.YELLOW));
     // Commands registration process.
     this.registerCommands(
-      new MainCommand(this, this.messagesConfigProvider),
+      new MainCommand(this, this.profiler, this.messagesConfigProvider),
       new ScoreboardControlCommand(this.boardManager, this.messagesConfigProvider, this.settingsConfigProvider));
     this.logger.info(Component.text("Registered commands.").color(NamedTextColor.YELLOW));
     this.registerListener();
@@ -92,28 +115,62 @@ public final class PacketBoardPlugin extends JavaPlugin implements PacketBoard {
 
   private void registerListener() {
     // Listeners registration process.
-    final var scoreboardFactory = new ScoreboardFactory(this.boardManager);
-    super.getServer().getPluginManager().registerEvents(
-      this.scoreboardsRegistryListener = new PlayerRegistryListener(this.logger, this.boardManager, scoreboardFactory,
-        this.settingsConfigProvider.configModel()), this);
+    this.scoreboardFactory = new ScoreboardFactory(this.boardManager, this.sectionSelector);
+    this.scoreboardFactory.linesUpdatePluginTask(this.linesUpdatePluginTask);
+    final var pluginManager = super.getServer().getPluginManager();
+    pluginManager.registerEvents(
+      this.scoreboardsRegistryListener = new PlayerRegistryListener(this.logger, this.boardManager,
+        this.scoreboardFactory, this.placeholderResultCache, this.settingsConfigProvider.configModel()), this);
+    pluginManager.registerEvents(new PlayerActivityListener(this.activityTracker), this);
+    pluginManager.registerEvents(
+      this.sectionSwitchListener = new SectionSwitchListener(this, this.boardRepository, this.boardManager,
+        this.scoreboardFactory, this.sectionSelector, this.settingsConfigProvider.configModel()), this);
   }
 
   private void registerPluginTasks() {
     final var asyncScheduler = super.getServer().getAsyncScheduler();
     final var config = this.settingsConfigProvider.configModel();
+    this.warnUnevaluatedConditions(config);
     // Only register, and start thread-executors if features are enabled from configuration.
     if (config.enableLinesRefreshing) {
-      this.linesUpdatePluginTask = new LinesUpdatePluginTask(this.boardRepository, config);
+      this.linesUpdatePluginTask = new LinesUpdatePluginTask(this, this.boardRepository, this.activityTracker,
+        this.placeholderResultCache, this.profiler, this.sectionSelector, config);
       asyncScheduler.runAtFixedRate(this, this.linesUpdatePluginTask, 0,
         config.linesUpdateRateSeconds, TimeUnit.SECONDS);
+      // Event-driven lines are rendered by the same task when they're invalidated.
+      this.boardManager.invalidationHandler(this.linesUpdatePluginTask);
     }
-    if (config.enableAnimatedTitleFeature) {
-      this.titleAnimationPluginTask = new TitleAnimationPluginTask(this.boardRepository, config.animatedTitleContent);
-      asyncScheduler.runAtFixedRate(this, this.titleAnimationPluginTask, 0,
-        config.animatedTitleUpdateRateSeconds, TimeUnit.SECONDS);
+    // The animations' frame-timings are defined in ticks, so this task runs once per tick.
+    if (config.enableAnimatedTitleFeature || config.enableAnimatedLinesFeature) {
+      this.animationPluginTask = new AnimationPluginTask(this, this.boardRepository, this.placeholderResultCache, config);
+      asyncScheduler.runAtFixedRate(this, this.animationPluginTask, 0, 50, TimeUnit.MILLISECONDS);
     }
   }
 
+  private void warnUnevaluatedConditions(final SettingsConfigModel config) {
+    // Lines' conditions are only evaluated by the lines' task, so they would be ignored without it.
+    if (config.enableLinesRefreshing) return;
+    var conditions = config.globalLineConditions.length;
+    for (final var worldSection : config.scoreboardWorld) {
+      conditions += worldSection.conditions.length;
+    }
+    for (final var permissionSection : config.scoreboardPermission) {
+      conditions += permissionSection.conditions.length;
+    }
+    for (final var groupSection : config.scoreboardGroup) {
+      conditions += groupSection.conditions.length;
+    }
+    for (final var ruleSection : config.scoreboardRules) {
+      conditions += ruleSection.conditions.length;
+    }
+    for (final var regionSection : config.scoreboardRegions) {
+      conditions += regionSection.conditions.length;
+    }
+    if (conditions == 0) return;
+    this.logger.warn(Component.text("There are " + conditions + " lines' conditions configured, but they're ignored "
+      + "because 'enableLinesRefreshing' is disabled.").color(NamedTextColor.YELLOW));
+  }
+
   @SuppressWarnings("UnstableApiUsage")
   private void registerCommands(final RegistrableCommandModel... registrableCommandModels) {
     super.getLifecycleManager().registerEventHandler(LifecycleEvents.COMMANDS, event -> {
@@ -126,19 +183,33 @@ public final class PacketBoardPlugin extends JavaPlugin implements PacketBoard {
   }
 
   public boolean reload() {
+    // Interned components of the previous configuration shouldn't be kept after the reload.
+    ComponentInterner.clear();
     if (!this.updateConfigurations()) {
       return false;
     }
     final var config = this.settingsConfigProvider.configModel();
+    // Effects' phases could be generated for texts that aren't used anymore.
+    ColorEffectGenerator.invalidateCache();
+    this.warnUnevaluatedConditions(config);
+    this.profiler.configModel(config);
+    this.placeholderResultCache.configModel(config);
+    CompiledTemplate.legacyComponentCache().maxSize(config.legacyComponentCacheSize);
+    this.sectionSelector.configModel(config);
+    // Prepared scoreboards were sent with the previous configuration's content.
+    this.boardManager.discardPrepared();
+    this.scoreboardFactory.configModel(config);
     // If features that requires periodic-tasks are enabled, we update these tasks' attributes.
     if (config.enableLinesRefreshing) {
       this.linesUpdatePluginTask.configModel(config);
     }
-    if (config.enableAnimatedTitleFeature) {
-      this.titleAnimationPluginTask.content(config.animatedTitleContent);
+    if (this.animationPluginTask != null) {
+      this.animationPluginTask.configModel(config);
     }
-    // Update config-model for event-listener instance.
+    // Update config-model for event-listener and activity-tracker instances.
     this.scoreboardsRegistryListener.configModel(config);
+    this.sectionSwitchListener.configModel(config);
+    this.activityTracker.configModel(config);
     return true;
   }
 
@@ -160,6 +231,9 @@ public final class PacketBoardPlugin extends JavaPlugin implements PacketBoard {
       this.boardManager.close();
     }
     super.getServer().getAsyncScheduler().cancelTasks(this);
+    if (this.placeholderResultCache != null) {
+      this.placeholderResultCache.shutdown();
+    }
     this.logger.info(Component.text("Plugin disabled!").color(NamedTextColor.RED));
   }
 }
@@ -0,0 +1,113 @@
+// This file is part of packet-board, licensed under the GNU License.
+//
+// Copyright (c) 2024 aivruu
+//
+// This program is free software: you can redistribute it and/or modify
+// it under the terms of the GNU General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// This program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU General Public License
+// along with this program. If not, see <https://www.gnu.org/licenses/>.
+package io.github.aivruu.packetboard.activity;
+
+import io.github.aivruu.packetboard.config.object.SettingsConfigModel;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * This class is used to track the players' last actions, so the scoreboard's lines of idle players can be
+ * refreshed at a slower rate than the active ones.
+ *
+ * @since 1.0.0
+ */
+public class PlayerActivityTracker {
+  private final Map<String, PlayerActivity> activities = new ConcurrentHashMap<>();
+  /** The throttling's settings, replaced as a whole on reloads, so a check never mixes old and new values. */
+  private volatile Settings settings;
+
+  public PlayerActivityTracker(final SettingsConfigModel config) {
+    this.configModel(config);
+  }
+
+  public void configModel(final SettingsConfigModel updatedConfigModel) {
+    this.settings = new Settings(updatedConfigModel.enableIdleRefreshThrottling,
+      updatedConfigModel.idleThresholdSeconds * 1000L, updatedConfigModel.idleLinesUpdateRateSeconds * 1000L);
+  }
+
+  /**
+   * Starts tracking the player's activity, the player is considered as active since this moment.
+   *
+   * @param playerId the player's unique id.
+   * @since 1.0.0
+   */
+  public void register(final String playerId) {
+    final var now = System.currentTimeMillis();
+    this.activities.put(playerId, new PlayerActivity(now, now));
+  }
+
+  /**
+   * Stops tracking the player's activity.
+   *
+   * @param playerId the player's unique id.
+   * @since 1.0.0
+   */
+  public void unregister(final String playerId) {
+    this.activities.remove(playerId);
+  }
+
+  /**
+   * Registers an action for the player, so the player is considered as active again.
+   *
+   * @param playerId the player's unique id.
+   * @since 1.0.0
+   */
+  public void markActive(final String playerId) {
+    final var activity = this.activities.get(playerId);
+    if (activity == null) return;
+    activity.lastActionAt = System.currentTimeMillis();
+  }
+
+  /**
+   * Checks if the player's scoreboard's lines should be refreshed at this moment, active players are always
+   * refreshed, meanwhile idle players are only refreshed once every configured idle refresh-rate.
+   *
+   * @param playerId the player's unique id.
+   * @return Whether the player's scoreboard should be refreshed now, if it does, the refresh is registered for
+   *     the next validation.
+   * @since 1.0.0
+   */
+  public boolean shouldRefresh(final String playerId) {
+    final var settings = this.settings;
+    final var activity = this.activities.get(playerId);
+    if (!settings.enabled() || (activity == null)) {
+      return true;
+    }
+    final var now = System.currentTimeMillis();
+    // Idle players keep receiving updates, but only when their slower refresh-rate has elapsed.
+    if (((now - activity.lastActionAt) >= settings.idleThresholdMillis())
+      && ((now - activity.lastRefreshAt) < settings.idleRefreshRateMillis())) {
+      return false;
+    }
+    activity.lastRefreshAt = now;
+    return true;
+  }
+
+  private record Settings(boolean enabled, long idleThresholdMillis, long idleRefreshRateMillis) {}
+
+  private static final class PlayerActivity {
+    private volatile long lastActionAt;
+    private volatile long lastRefreshAt;
+
+    private PlayerActivity(final long lastActionAt, final long lastRefreshAt) {
+      this.lastActionAt = lastActionAt;
+      this.lastRefreshAt = lastRefreshAt;
+    }
+  }
+}
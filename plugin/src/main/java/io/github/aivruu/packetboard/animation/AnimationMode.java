@@ -0,0 +1,37 @@
+// This file is part of packet-board, licensed under the GNU License.
+//
+// Copyright (c) 2024 aivruu
+//
+// This program is free software: you can redistribute it and/or modify
+// it under the terms of the GNU General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// This program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU General Public License
+// along with this program. If not, see <https://www.gnu.org/licenses/>.
+package io.github.aivruu.packetboard.animation;
+
+/**
+ * This enum is used to represent the ways an animation's frames can be played.
+ *
+ * @since 1.0.0
+ */
+public enum AnimationMode {
+  /**
+   * The frames are played from the first to the last one, and then from the start again.
+   *
+   * @since 1.0.0
+   */
+  LOOP,
+  /**
+   * The frames are played forward and then backwards, without repeating the edge-frames.
+   *
+   * @since 1.0.0
+   */
+  PING_PONG
+}
@@ -0,0 +1,49 @@
+// This file is part of packet-board, licensed under the GNU License.
+//
+// Copyright (c) 2024 aivruu
+//
+// This program is free software: you can redistribute it and/or modify
+// it under the terms of the GNU General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// This program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU General Public License
+// along with this program. If not, see <https://www.gnu.org/licenses/>.
+package io.github.aivruu.packetboard.animation;
+
+/**
+ * This enum is used to represent the color-effects that can be applied over an animated text.
+ *
+ * @since 1.0.0
+ */
+public enum ColorEffect {
+  /**
+   * No color-effect is used, the animation's frames are used as they are.
+   *
+   * @since 1.0.0
+   */
+  NONE,
+  /**
+   * The given colors flow through the text as a looping gradient.
+   *
+   * @since 1.0.0
+   */
+  GRADIENT,
+  /**
+   * All the hue-spectrum flows through the text.
+   *
+   * @since 1.0.0
+   */
+  RAINBOW,
+  /**
+   * A highlight with the second color sweeps over the text with the first color.
+   *
+   * @since 1.0.0
+   */
+  SHIMMER
+}
@@ -0,0 +1,141 @@
+// This file is part of packet-board, licensed under the GNU License.
+//
+// Copyright (c) 2024 aivruu
+//
+// This program is free software: you can redistribute it and/or modify
+// it under the terms of the GNU General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// This program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU General Public License
+// along with this program. If not, see <https://www.gnu.org/licenses/>.
+package io.github.aivruu.packetboard.animation;
+
+import io.github.aivruu.packetboard.util.ComponentParserUtils;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.format.TextColor;
+import net.kyori.adventure.util.HSVLike;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * This class is used to generate the phases of a {@link ColorEffect} for a text. The phases are computed only
+ * once for each text and effect's parameters, and shared between all the animations that use the same effect.
+ *
+ * @since 1.0.0
+ */
+public final class ColorEffectGenerator {
+  private static final Map<EffectKey, Component[]> PHASES_CACHE = new ConcurrentHashMap<>();
+
+  private ColorEffectGenerator() {
+    throw new UnsupportedOperationException("This class is for utility.");
+  }
+
+  /**
+   * Returns the phases of the effect for the given text, generating them only if they aren't cached yet.
+   *
+   * @param text the MiniMessage formatted text, its decorations are kept, but its colors are replaced.
+   * @param effect the color-effect to apply.
+   * @param colors the colors used by the effect, as hex-strings or named-colors.
+   * @param phases the phases-amount to generate.
+   * @return The effect's phases, this array is shared and must not be modified.
+   * @since 1.0.0
+   */
+  public static Component[] phases(final String text, final ColorEffect effect, final String[] colors, final int phases) {
+    return PHASES_CACHE.computeIfAbsent(new EffectKey(text, effect, List.of(colors), Math.max(1, phases)),
+      ColorEffectGenerator::generate);
+  }
+
+  /**
+   * Removes all the cached phases, used when the configuration is reloaded.
+   *
+   * @since 1.0.0
+   */
+  public static void invalidateCache() {
+    PHASES_CACHE.clear();
+  }
+
+  private static Component[] generate(final EffectKey key) {
+    final var segments = StyledSegment.flatten(ComponentParserUtils.apply(key.text()));
+    final var colors = parseColors(key.colors());
+    var length = 0;
+    for (final var segment : segments) {
+      length += segment.text().length();
+    }
+    final var phases = new Component[key.phases()];
+    final var run = new StringBuilder();
+    for (int phase = 0; phase < phases.length; phase++) {
+      final var progress = (float) phase / phases.length;
+      final var phaseBuilder = Component.text();
+      var charIndex = 0;
+      for (final var segment : segments) {
+        final var segmentText = segment.text();
+        TextColor runColor = null;
+        for (int i = 0; i < segmentText.length(); i++) {
+          final var color = color(key.effect(), colors, charIndex++, length, progress);
+          // Consecutive characters with the same color are appended as a single component.
+          if ((runColor != null) && !runColor.equals(color)) {
+            phaseBuilder.append(Component.text(run.toString(), segment.style().color(runColor)));
+            run.setLength(0);
+          }
+          runColor = color;
+          run.append(segmentText.charAt(i));
+        }
+        phaseBuilder.append(Component.text(run.toString(), segment.style().color(runColor)));
+        run.setLength(0);
+      }
+      phases[phase] = phaseBuilder.build();
+    }
+    return phases;
+  }
+
+  private static TextColor color(final ColorEffect effect, final TextColor[] colors, final int index, final int length,
+                                 final float progress) {
+    return switch (effect) {
+      case RAINBOW -> TextColor.color(HSVLike.hsvLike(cyclicPosition(index, length, progress), 1f, 1f));
+      case SHIMMER -> {
+        // The highlight enters before the text's start, and leaves after the text's end.
+        final var bandWidth = Math.max(2f, length / 5f);
+        final var center = (progress * (length + (bandWidth * 2))) - bandWidth;
+        final var intensity = Math.max(0f, 1f - (Math.abs(index - center) / bandWidth));
+        yield TextColor.lerp(intensity, colors[0], (colors.length > 1) ? colors[1] : NamedTextColor.WHITE);
+      }
+      default -> {
+        // Positions are cyclic, so the last color blends into the first one again.
+        final var scaledPosition = cyclicPosition(index, length, progress) * colors.length;
+        final var colorIndex = (int) scaledPosition;
+        yield TextColor.lerp(scaledPosition - colorIndex, colors[colorIndex % colors.length],
+          colors[(colorIndex + 1) % colors.length]);
+      }
+    };
+  }
+
+  private static float cyclicPosition(final int index, final int length, final float progress) {
+    final var position = ((float) index / length) - progress;
+    return position - (float) Math.floor(position);
+  }
+
+  private static TextColor[] parseColors(final List<String> colors) {
+    final var parsedColors = new ArrayList<TextColor>(colors.size());
+    for (final var color : colors) {
+      final var parsedColor = color.startsWith("#")
+        ? TextColor.fromHexString(color)
+        : NamedTextColor.NAMES.value(color.toLowerCase(Locale.ROOT));
+      if (parsedColor == null) continue;
+      parsedColors.add(parsedColor);
+    }
+    return parsedColors.isEmpty() ? new TextColor[] { NamedTextColor.WHITE } : parsedColors.toArray(TextColor[]::new);
+  }
+
+  private record EffectKey(String text, ColorEffect effect, List<String> colors, int phases) {}
+}
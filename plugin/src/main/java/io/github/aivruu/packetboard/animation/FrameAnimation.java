@@ -0,0 +1,184 @@
+// This file is part of packet-board, licensed under the GNU License.
+//
+// Copyright (c) 2024 aivruu
+//
+// This program is free software: you can redistribute it and/or modify
+// it under the terms of the GNU General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// This program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU General Public License
+// along with this program. If not, see <https://www.gnu.org/licenses/>.
+package io.github.aivruu.packetboard.animation;
+
+import io.github.aivruu.packetboard.config.object.SettingsConfigModel;
+import io.github.aivruu.packetboard.placeholder.CompiledTemplate;
+import io.github.aivruu.packetboard.placeholder.PlaceholderResolver;
+import io.github.aivruu.packetboard.util.PlaceholderParsingUtils;
+import net.kyori.adventure.text.Component;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * This class is used as a compiled, and immutable animation, all its frames, the playing-order and the frames'
+ * timings are computed once when the configuration is loaded, so the frame-lookup for any tick is just a
+ * binary-search over the precomputed timings.
+ *
+ * @since 1.0.0
+ */
+public final class FrameAnimation {
+  private static final int DEFAULT_FRAME_TICKS = 20;
+  private final Component[] frames;
+  /** The compiled templates for the frames with placeholders, {@code null} for the frames without them. */
+  private final @Nullable CompiledTemplate[] dynamicFrames;
+  private final int[] sequence;
+  private final long[] sequenceEndTicks;
+  private final long cycleTicks;
+  private final boolean playerPhaseOffset;
+
+  private FrameAnimation(final Component[] frames, final @Nullable CompiledTemplate[] dynamicFrames, final int[] sequence,
+                         final long[] sequenceEndTicks, final long cycleTicks, final boolean playerPhaseOffset) {
+    this.frames = frames;
+    this.dynamicFrames = dynamicFrames;
+    this.sequence = sequence;
+    this.sequenceEndTicks = sequenceEndTicks;
+    this.cycleTicks = cycleTicks;
+    this.playerPhaseOffset = playerPhaseOffset;
+  }
+
+  /**
+   * Compiles the given animation-section into a new {@link FrameAnimation}.
+   *
+   * @param section the animation's configuration-section.
+   * @return The compiled {@link FrameAnimation}, or {@code null} if the section doesn't have any frame.
+   * @since 1.0.0
+   */
+  public static @Nullable FrameAnimation compile(final SettingsConfigModel.AnimationSection section) {
+    final var effect = section.effect;
+    if (effect.type == ColorEffect.NONE) {
+      return compile(section.frames, section.frameTicks, section.mode, section.playerPhaseOffset, true);
+    }
+    // Effect's phases are generated once and shared, and they don't support placeholders.
+    return compile(ColorEffectGenerator.phases(effect.text, effect.type, effect.colors, effect.phases),
+      section.frameTicks, section.mode, section.playerPhaseOffset, false);
+  }
+
+  /**
+   * Compiles the given frames into a new {@link FrameAnimation}.
+   *
+   * @param frames the animation's frames.
+   * @param frameTicks the duration in ticks for each frame, the last one is used for the remaining frames.
+   * @param mode the mode used to play the frames.
+   * @param playerPhaseOffset whether each player should see the animation with a different phase.
+   * @param processPlaceholders whether the frames with placeholders should be processed for each player.
+   * @return The compiled {@link FrameAnimation}, or {@code null} if there isn't any frame.
+   * @since 1.0.0
+   */
+  public static @Nullable FrameAnimation compile(final Component[] frames, final int[] frameTicks, final AnimationMode mode,
+                                                 final boolean playerPhaseOffset, final boolean processPlaceholders) {
+    if (frames.length == 0) {
+      return null;
+    }
+    // Frames without placeholders never change, so they are never processed again after this.
+    final var dynamicFrames = new CompiledTemplate[frames.length];
+    for (int i = 0; processPlaceholders && (i < frames.length); i++) {
+      final var template = CompiledTemplate.compile(frames[i]);
+      // Built-in placeholders don't need PlaceholderAPI to be resolved.
+      final var resolvable = PlaceholderParsingUtils.available() || template.hasNativePlaceholders();
+      dynamicFrames[i] = (template.dynamic() && resolvable) ? template : null;
+    }
+    final var sequence = sequence(frames.length, mode);
+    final var sequenceEndTicks = new long[sequence.length];
+    long cycleTicks = 0;
+    for (int i = 0; i < sequence.length; i++) {
+      cycleTicks += frameTicks(frameTicks, sequence[i]);
+      sequenceEndTicks[i] = cycleTicks;
+    }
+    return new FrameAnimation(frames, dynamicFrames, sequence, sequenceEndTicks, cycleTicks, playerPhaseOffset);
+  }
+
+  private static int[] sequence(final int framesAmount, final AnimationMode mode) {
+    if ((mode == AnimationMode.LOOP) || (framesAmount <= 2)) {
+      final var sequence = new int[framesAmount];
+      for (int i = 0; i < framesAmount; i++) {
+        sequence[i] = i;
+      }
+      return sequence;
+    }
+    // Ping-pong sequence, e.g. for four frames: 0, 1, 2, 3, 2, 1.
+    final var sequence = new int[(framesAmount * 2) - 2];
+    for (int i = 0; i < sequence.length; i++) {
+      sequence[i] = (i < framesAmount) ? i : (sequence.length - i);
+    }
+    return sequence;
+  }
+
+  private static int frameTicks(final int[] frameTicks, final int frame) {
+    if (frameTicks.length == 0) {
+      return DEFAULT_FRAME_TICKS;
+    }
+    return Math.max(1, frameTicks[Math.min(frame, frameTicks.length - 1)]);
+  }
+
+  /**
+   * Returns the frame's index that should be shown at the given tick for the player with this id.
+   *
+   * @param tick the animation's current tick.
+   * @param playerId the player's unique id, used for the phase-offset if it's enabled.
+   * @return The frame's index for the given tick.
+   * @since 1.0.0
+   */
+  public int frameAt(final long tick, final String playerId) {
+    final var phase = Math.floorMod(this.playerPhaseOffset ? (tick + playerId.hashCode()) : tick, this.cycleTicks);
+    final var position = Arrays.binarySearch(this.sequenceEndTicks, phase);
+    // An exact match means that the step at that position has just finished, so we use the next one.
+    return this.sequence[(position >= 0) ? (position + 1) : -(position + 1)];
+  }
+
+  /**
+   * Returns whether the frame with the given index contains placeholders.
+   *
+   * @param frame the frame's index.
+   * @return Whether the frame must be processed for each player.
+   * @since 1.0.0
+   */
+  public boolean dynamic(final int frame) {
+    return this.dynamicFrames[frame] != null;
+  }
+
+  /**
+   * Returns the templates of the frames that contain placeholders.
+   *
+   * @return The dynamic frames' templates.
+   * @since 1.0.0
+   */
+  public List<CompiledTemplate> dynamicTemplates() {
+    final var templates = new ArrayList<CompiledTemplate>();
+    for (final var template : this.dynamicFrames) {
+      if (template == null) continue;
+      templates.add(template);
+    }
+    return templates;
+  }
+
+  /**
+   * Returns the frame with the given index, processing its placeholders only if it's necessary.
+   *
+   * @param resolver the resolver for the frame's placeholders.
+   * @param frame the frame's index.
+   * @return The rendered frame.
+   * @since 1.0.0
+   */
+  public Component render(final PlaceholderResolver resolver, final int frame) {
+    final var template = this.dynamicFrames[frame];
+    return (template == null) ? this.frames[frame] : template.render(resolver);
+  }
+}
@@ -0,0 +1,84 @@
+// This file is part of packet-board, licensed under the GNU License.
+//
+// Copyright (c) 2024 aivruu
+//
+// This program is free software: you can redistribute it and/or modify
+// it under the terms of the GNU General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// This program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU General Public License
+// along with this program. If not, see <https://www.gnu.org/licenses/>.
+package io.github.aivruu.packetboard.animation;
+
+import io.github.aivruu.packetboard.config.object.SettingsConfigModel;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+
+/**
+ * This class is used to compile all the line-animations defined for the 'GLOBAL' mode.
+ *
+ * @since 1.0.0
+ */
+public final class GlobalLineAnimations {
+  private GlobalLineAnimations() {
+    throw new UnsupportedOperationException("This class is for utility.");
+  }
+
+  /**
+   * Compiles all the animated and scrolling-text lines defined at the configuration.
+   *
+   * @param config the configuration-model.
+   * @return The compiled line-animations, or an empty array if the animated-lines feature is disabled.
+   * @since 1.0.0
+   */
+  public static LineFrameAnimation[] compile(final SettingsConfigModel config) {
+    if (!config.enableAnimatedLinesFeature) {
+      return new LineFrameAnimation[0];
+    }
+    final var lineAnimations = new ArrayList<LineFrameAnimation>();
+    for (final var lineAnimationSection : config.animatedGlobalLines) {
+      final var animation = FrameAnimation.compile(lineAnimationSection);
+      if ((animation == null) || (lineAnimationSection.line < 1)) continue;
+      lineAnimations.add(new LineFrameAnimation(lineAnimationSection.line - 1, animation));
+    }
+    for (final var marqueeLineSection : config.marqueeGlobalLines) {
+      if (marqueeLineSection.line < 1) continue;
+      // Scrolling-text frames are generated only once, so they don't support placeholders.
+      final var frames = MarqueeFrameGenerator.frames(marqueeLineSection.text, marqueeLineSection.width,
+        marqueeLineSection.separator);
+      lineAnimations.add(new LineFrameAnimation(marqueeLineSection.line - 1, FrameAnimation.compile(frames,
+        new int[] { marqueeLineSection.frameTicks }, AnimationMode.LOOP, marqueeLineSection.playerPhaseOffset, false)));
+    }
+    return lineAnimations.toArray(LineFrameAnimation[]::new);
+  }
+
+  /**
+   * Returns the lines' indexes that are handled by an animation.
+   *
+   * @param config the configuration-model.
+   * @return A {@link BitSet} with the animated-lines' indexes, empty if the animated-lines feature is disabled.
+   * @since 1.0.0
+   */
+  public static BitSet indexes(final SettingsConfigModel config) {
+    final var indexes = new BitSet();
+    if (!config.enableAnimatedLinesFeature) {
+      return indexes;
+    }
+    for (final var lineAnimationSection : config.animatedGlobalLines) {
+      if (lineAnimationSection.line < 1) continue;
+      indexes.set(lineAnimationSection.line - 1);
+    }
+    for (final var marqueeLineSection : config.marqueeGlobalLines) {
+      if (marqueeLineSection.line < 1) continue;
+      indexes.set(marqueeLineSection.line - 1);
+    }
+    return indexes;
+  }
+}
@@ -0,0 +1,85 @@
+// This file is part of packet-board, licensed under the GNU License.
+//
+// Copyright (c) 2024 aivruu
+//
+// This program is free software: you can redistribute it and/or modify
+// it under the terms of the GNU General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// This program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU General Public License
+// along with this program. If not, see <https://www.gnu.org/licenses/>.
+package io.github.aivruu.packetboard.animation;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.Style;
+
+/**
+ * This class is used to generate the frames for scrolling-text (marquee) lines, the given text is flattened
+ * once into styled plain-text, and each frame is a styled window of the configured width over that text.
+ *
+ * @since 1.0.0
+ */
+public final class MarqueeFrameGenerator {
+  private MarqueeFrameGenerator() {
+    throw new UnsupportedOperationException("This class is for utility.");
+  }
+
+  /**
+   * Generates all the frames for the given text, scrolling one character per frame.
+   *
+   * @param text the text to scroll.
+   * @param width the visible characters-amount for each frame.
+   * @param separator the plain-text added between the text's end and its start again.
+   * @return The generated frames, or an array with only the given text if it fits in the given width.
+   * @since 1.0.0
+   */
+  public static Component[] frames(final Component text, final int width, final String separator) {
+    final var segments = StyledSegment.flatten(text);
+    final var content = new StringBuilder();
+    for (final var segment : segments) {
+      content.append(segment.text());
+    }
+    // The text doesn't need to scroll if it's fully visible.
+    if ((width < 1) || (content.length() <= width)) {
+      return new Component[] { text };
+    }
+    segments.add(new StyledSegment(separator, Style.empty()));
+    content.append(separator);
+    // Each character is mapped to its segment, so we know which style should be applied to it.
+    final var chars = content.toString().toCharArray();
+    final var charSegments = new int[chars.length];
+    var position = 0;
+    for (int i = 0; i < segments.size(); i++) {
+      final var segmentLength = segments.get(i).text().length();
+      for (int j = 0; j < segmentLength; j++) {
+        charSegments[position++] = i;
+      }
+    }
+    final var frames = new Component[chars.length];
+    final var run = new StringBuilder(width);
+    for (int start = 0; start < chars.length; start++) {
+      final var frameBuilder = Component.text();
+      var runSegment = charSegments[start];
+      for (int offset = 0; offset < width; offset++) {
+        final var index = (start + offset) % chars.length;
+        // Consecutive characters with the same style are appended as a single component.
+        if (charSegments[index] != runSegment) {
+          frameBuilder.append(Component.text(run.toString(), segments.get(runSegment).style()));
+          run.setLength(0);
+          runSegment = charSegments[index];
+        }
+        run.append(chars[index]);
+      }
+      frameBuilder.append(Component.text(run.toString(), segments.get(runSegment).style()));
+      run.setLength(0);
+      frames[start] = frameBuilder.build();
+    }
+    return frames;
+  }
+}
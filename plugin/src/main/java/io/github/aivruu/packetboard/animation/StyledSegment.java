@@ -0,0 +1,71 @@
+// This file is part of packet-board, licensed under the GNU License.
+//
+// Copyright (c) 2024 aivruu
+//
+// This program is free software: you can redistribute it and/or modify
+// it under the terms of the GNU General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// This program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU General Public License
+// along with this program. If not, see <https://www.gnu.org/licenses/>.
+package io.github.aivruu.packetboard.animation;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.flattener.ComponentFlattener;
+import net.kyori.adventure.text.flattener.FlattenerListener;
+import net.kyori.adventure.text.format.Style;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * This record is used to represent a plain-text segment of a flattened component, with its fully resolved style.
+ *
+ * @param text the segment's plain-text.
+ * @param style the segment's style, including the style inherited from its parents.
+ * @since 1.0.0
+ */
+record StyledSegment(String text, Style style) {
+  /**
+   * Flattens the given component into plain-text segments with their resolved styles.
+   *
+   * @param text the component to flatten.
+   * @return The non-empty segments of the component, following the text's order.
+   * @since 1.0.0
+   */
+  static List<StyledSegment> flatten(final Component text) {
+    final var segments = new ArrayList<StyledSegment>();
+    ComponentFlattener.basic().flatten(text, new FlattenerListener() {
+      private final Deque<Style> styles = new ArrayDeque<>();
+
+      @Override
+      public void pushStyle(final @NotNull Style style) {
+        final var parentStyle = this.styles.peek();
+        // Children inherit their parent's style, and override it with their own style.
+        this.styles.push((parentStyle == null) ? style : parentStyle.merge(style));
+      }
+
+      @Override
+      public void component(final @NotNull String text) {
+        if (text.isEmpty()) return;
+        final var style = this.styles.peek();
+        segments.add(new StyledSegment(text, (style == null) ? Style.empty() : style));
+      }
+
+      @Override
+      public void popStyle(final @NotNull Style style) {
+        this.styles.pop();
+      }
+    });
+    return segments;
+  }
+}
@@ -0,0 +1,77 @@
+// This file is part of packet-board, licensed under the GNU License.
+//
+// Copyright (c) 2024 aivruu
+//
+// This program is free software: you can redistribute it and/or modify
+// it under the terms of the GNU General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// This program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU General Public License
+// along with this program. If not, see <https://www.gnu.org/licenses/>.
+package io.github.aivruu.packetboard.cache;
+
+import net.kyori.adventure.text.Component;
+
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * This class is used to compact, and intern the configured components, so equal components, and equal sub-trees
+ * of them, share a single instance between all the configuration's sections.
+ *
+ * @since 1.0.0
+ */
+public final class ComponentInterner {
+  private static final Map<Component, Component> INTERNED_COMPONENTS = new ConcurrentHashMap<>();
+
+  private ComponentInterner() {
+    throw new UnsupportedOperationException("This class is for utility.");
+  }
+
+  /**
+   * Compacts the given component, and returns its interned instance.
+   *
+   * @param component the component to intern.
+   * @return The interned, and compacted component.
+   * @since 1.0.0
+   */
+  public static Component intern(final Component component) {
+    // Compaction merges adjacent texts with the same style, and removes the styles inherited from the parents.
+    return internTree(component.compact());
+  }
+
+  /**
+   * Removes all the interned components, used when the configuration is reloaded.
+   *
+   * @since 1.0.0
+   */
+  public static void clear() {
+    INTERNED_COMPONENTS.clear();
+  }
+
+  private static Component internTree(final Component component) {
+    final var children = component.children();
+    var internedComponent = component;
+    if (!children.isEmpty()) {
+      final var internedChildren = new ArrayList<Component>(children.size());
+      var modifiedChildren = false;
+      for (final var child : children) {
+        final var internedChild = internTree(child);
+        internedChildren.add(internedChild);
+        modifiedChildren |= internedChild != child;
+      }
+      if (modifiedChildren) {
+        internedComponent = component.children(internedChildren);
+      }
+    }
+    final var existingComponent = INTERNED_COMPONENTS.putIfAbsent(internedComponent, internedComponent);
+    return (existingComponent == null) ? internedComponent : existingComponent;
+  }
+}
@@ -0,0 +1,130 @@
+// This file is part of packet-board, licensed under the GNU License.
+//
+// Copyright (c) 2024 aivruu
+//
+// This program is free software: you can redistribute it and/or modify
+// it under the terms of the GNU General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// This program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU General Public License
+// along with this program. If not, see <https://www.gnu.org/licenses/>.
+package io.github.aivruu.packetboard.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * This class is used as a thread-safe, and bounded least-recently-used cache, which tracks the amount of hits
+ * and misses of its look-ups.
+ *
+ * @param <K> the keys' type.
+ * @param <V> the values' type.
+ * @since 1.0.0
+ */
+public final class LruCache<K, V> {
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final Map<K, V> entries;
+  private volatile int maxSize;
+
+  public LruCache(final int maxSize) {
+    this.maxSize = maxSize;
+    // Access-ordered, so the eldest entry is always the least-recently-used one.
+    this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(final Map.Entry<K, V> eldest) {
+        return this.size() > LruCache.this.maxSize;
+      }
+    };
+  }
+
+  /**
+   * Returns the cached value for the given key, computing and caching it if it isn't cached yet.
+   *
+   * @param key the value's key.
+   * @param loader the function used to compute the value, this is called without holding the cache's lock.
+   * @return The cached, or computed value.
+   * @since 1.0.0
+   */
+  public V get(final K key, final Function<K, V> loader) {
+    synchronized (this.entries) {
+      final var value = this.entries.get(key);
+      if (value != null) {
+        this.hits.increment();
+        return value;
+      }
+    }
+    this.misses.increment();
+    final var value = loader.apply(key);
+    if (this.maxSize > 0) {
+      synchronized (this.entries) {
+        this.entries.put(key, value);
+      }
+    }
+    return value;
+  }
+
+  /**
+   * Modifies the maximum entries-amount for this cache, removing all the cached entries.
+   *
+   * @param maxSize the new maximum entries-amount, zero to disable the caching.
+   * @since 1.0.0
+   */
+  public void maxSize(final int maxSize) {
+    this.maxSize = maxSize;
+    this.clear();
+  }
+
+  /**
+   * Removes all the cached entries, and resets the hits and misses counters.
+   *
+   * @since 1.0.0
+   */
+  public void clear() {
+    synchronized (this.entries) {
+      this.entries.clear();
+    }
+    this.hits.reset();
+    this.misses.reset();
+  }
+
+  /**
+   * Returns the current cached entries-amount.
+   *
+   * @return The cache's size.
+   * @since 1.0.0
+   */
+  public int size() {
+    synchronized (this.entries) {
+      return this.entries.size();
+    }
+  }
+
+  /**
+   * Returns the look-ups amount that found a cached value.
+   *
+   * @return The cache's hits.
+   * @since 1.0.0
+   */
+  public long hits() {
+    return this.hits.sum();
+  }
+
+  /**
+   * Returns the look-ups amount that needed to compute the value.
+   *
+   * @return The cache's misses.
+   * @since 1.0.0
+   */
+  public long misses() {
+    return this.misses.sum();
+  }
+}
@@ -22,17 +22,28 @@ import io.github.aivruu.packetboard.PacketBoardPlugin;
 import io.github.aivruu.packetboard.util.ComponentParserUtils;
 import io.github.aivruu.packetboard.config.ConfigurationProvider;
 import io.github.aivruu.packetboard.config.object.MessagesConfigModel;
+import io.github.aivruu.packetboard.placeholder.CompiledTemplate;
+import io.github.aivruu.packetboard.profiler.RenderProfiler;
 import io.papermc.paper.command.brigadier.CommandSourceStack;
 import io.papermc.paper.command.brigadier.Commands;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.minimessage.tag.resolver.Placeholder;
 
+import java.io.IOException;
 import java.util.List;
 
 public class MainCommand implements RegistrableCommandModel {
+  /** The maximum entries-amount for each category shown in the chat, the dumped file contains all of them. */
+  private static final int PROFILE_CHAT_ENTRIES = 8;
   private final PacketBoardPlugin plugin;
+  private final RenderProfiler profiler;
   private final ConfigurationProvider<MessagesConfigModel> messagesConfigProvider;
 
-  public MainCommand(final PacketBoardPlugin plugin, final ConfigurationProvider<MessagesConfigModel> messagesConfigProvider) {
+  public MainCommand(final PacketBoardPlugin plugin, final RenderProfiler profiler,
+                     final ConfigurationProvider<MessagesConfigModel> messagesConfigProvider) {
     this.plugin = plugin;
+    this.profiler = profiler;
     this.messagesConfigProvider = messagesConfigProvider;
   }
 
@@ -72,6 +83,55 @@ public class MainCommand implements RegistrableCommandModel {
           return Command.SINGLE_SUCCESS;
         })
       )
+      .then(Commands.literal("profile")
+        .requires(source -> source.getSender().hasPermission("packetboard.command.profile"))
+        .executes(commandContext -> {
+          final var messages = this.messagesConfigProvider.configModel();
+          final var sender = commandContext.getSource().getSender();
+          if (!this.profiler.enabled()) {
+            sender.sendMessage(ComponentParserUtils.apply(messages.profilerDisabled));
+            return Command.SINGLE_SUCCESS;
+          }
+          sender.sendMessage(ComponentParserUtils.apply(messages.profilerHeader));
+          // Report's lines contain the placeholders as they are, so they're sent as plain-text.
+          for (final var line : this.profiler.report(PROFILE_CHAT_ENTRIES)) {
+            sender.sendMessage(Component.text(line, NamedTextColor.GRAY));
+          }
+          final var legacyComponentCache = CompiledTemplate.legacyComponentCache();
+          sender.sendMessage(Component.text("Legacy-components cache | size: " + legacyComponentCache.size()
+            + ", hits: " + legacyComponentCache.hits() + ", misses: " + legacyComponentCache.misses(), NamedTextColor.GRAY));
+          return Command.SINGLE_SUCCESS;
+        })
+        .then(Commands.literal("reset")
+          .executes(commandContext -> {
+            this.profiler.reset();
+            commandContext.getSource().getSender().sendMessage(ComponentParserUtils.apply(
+              this.messagesConfigProvider.configModel().profilerReset));
+            return Command.SINGLE_SUCCESS;
+          })
+        )
+        .then(Commands.literal("dump")
+          .executes(commandContext -> {
+            final var sender = commandContext.getSource().getSender();
+            final var file = this.plugin.getDataFolder().toPath()
+              .resolve("profiles")
+              .resolve("profile-" + System.currentTimeMillis() + ".txt");
+            // The file is written asynchronously, so the command's execution doesn't wait for the disk.
+            this.plugin.getServer().getAsyncScheduler().runNow(this.plugin, task -> {
+              final var messages = this.messagesConfigProvider.configModel();
+              try {
+                this.profiler.dump(file);
+                sender.sendMessage(ComponentParserUtils.apply(messages.profilerDumped,
+                  Placeholder.unparsed("file", file.getFileName().toString())));
+              } catch (final IOException exception) {
+                this.plugin.getComponentLogger().error("Failed to write the profiler's results.", exception);
+                sender.sendMessage(ComponentParserUtils.apply(messages.profilerDumpFailed));
+              }
+            });
+            return Command.SINGLE_SUCCESS;
+          })
+        )
+      )
       .build();
   }
 }
@@ -32,6 +32,7 @@ public class MessagesConfigModel {
     "<blue>[PacketBoard] <gradient:yellow:green>Scoreboard's Control Commands:",
     "<gradient:yellow:green>- /packetboard help | Display the help message.",
     "<gradient:yellow:green>- /packetboard reload | Reload the plugin's configurations and threads' attributes.",
+    "<gradient:yellow:green>- /packetboard profile [reset|dump] | Display, reset or dump the profiler's results.",
     "",
     "<gradient:gray:aqua><hover:show_text:'Click to execute the command.'><click:run_command:'/scoreboard'>-> Check usage-guide for the scoreboard's own commands.</click></hover>",
   };
@@ -40,6 +41,16 @@ public class MessagesConfigModel {
 
   public String reloadFailed = "<blue>[PacketBoard] <red>The configuration-files couldn't reloaded!";
 
+  public String profilerDisabled = "<blue>[PacketBoard] <red>The profiler is disabled, enable it from the configuration first!";
+
+  public String profilerHeader = "<blue>[PacketBoard] <gradient:yellow:green>Profiler's results, sorted by total time:";
+
+  public String profilerReset = "<blue>[PacketBoard] <gradient:yellow:green>The profiler's results have been reset!";
+
+  public String profilerDumped = "<blue>[PacketBoard] <gradient:yellow:green>The profiler's results have been written to <file>!";
+
+  public String profilerDumpFailed = "<blue>[PacketBoard] <red>The profiler's results couldn't be written!";
+
   public String scoreboardTurnedOn = "<blue>[PacketBoard] <gradient:yellow:green>The scoreboard has been turned-on!";
 
   public String scoreboardTurnedOff = "<blue>[PacketBoard] <gradient:yellow:red>The scoreboard has been turned-off!";
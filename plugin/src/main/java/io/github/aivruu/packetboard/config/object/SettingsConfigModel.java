@@ -16,10 +16,15 @@
 // along with this program. If not, see <https://www.gnu.org/licenses/>.
 package io.github.aivruu.packetboard.config.object;
 
+import io.github.aivruu.packetboard.animation.AnimationMode;
+import io.github.aivruu.packetboard.animation.ColorEffect;
 import io.github.aivruu.packetboard.board.RuntimeScoreboardMode;
+import io.github.aivruu.packetboard.placeholder.PlaceholderScope;
 import net.kyori.adventure.text.Component;
+import org.jetbrains.annotations.Nullable;
 import org.spongepowered.configurate.objectmapping.ConfigSerializable;
 import org.spongepowered.configurate.objectmapping.meta.Comment;
+import org.spongepowered.configurate.objectmapping.meta.PostProcess;
 
 @ConfigSerializable
 public class SettingsConfigModel {
@@ -28,39 +33,110 @@ public class SettingsConfigModel {
     mode.""")
   public boolean enableAnimatedTitleFeature = false;
 
+  @Comment("""
+    This mean that the plugin will animate the lines defined at 'animatedGlobalLines', only for the
+    'GLOBAL' mode.""")
+  public boolean enableAnimatedLinesFeature = false;
+
   @Comment("This mean that the scoreboard's lines will be be updated every 'x' ticks-amount, or not.")
   public boolean enableLinesRefreshing = true;
 
-  @Comment("The refreshing-rate in seconds, for the scoreboard's animated-title.")
-  public byte animatedTitleUpdateRateSeconds = 1;
-
   @Comment("""
     The refreshing-rate for the scoreboard's lines, in seconds.""")
   public byte linesUpdateRateSeconds = 1;
 
+  @Comment("""
+    This mean that players without any activity (movement, interactions or chat) will get their
+    scoreboard's lines refreshed at a slower rate, until they do any action again.""")
+  public boolean enableIdleRefreshThrottling = false;
+
+  @Comment("The seconds-amount without any activity before a player is considered as idle.")
+  public int idleThresholdSeconds = 60;
+
+  @Comment("""
+    The refreshing-rate for the idle players' scoreboard's lines, in seconds.
+    This should be greater than the 'linesUpdateRateSeconds' value.""")
+  public byte idleLinesUpdateRateSeconds = 10;
+
+  @Comment("""
+    This mean that the placeholders defined at 'cachedPlaceholders' will be resolved only once for their
+    scope, and their values will be re-used until their time-to-live expires.""")
+  public boolean enablePlaceholderCache = true;
+
+  @Comment("""
+    The placeholders which values will be cached, and re-used for all the players in the same scope.
+    Placeholders that aren't defined here are still resolved only once for each scoreboard's refresh.""")
+  public CachedPlaceholderSection[] cachedPlaceholders = {
+    new CachedPlaceholderSection("%server_tps%", PlaceholderScope.GLOBAL, 1000),
+    new CachedPlaceholderSection("%server_online%", PlaceholderScope.GLOBAL, 1000)
+  };
+
+  @Comment("""
+    The placeholders which values only change on specific events, e.g. kills or coins. The lines that only
+    contain these placeholders aren't refreshed periodically, they're rendered again only when other plugins
+    invalidate them through the API's 'BoardManager#invalidate' method.""")
+  public String[] eventDrivenPlaceholders = {};
+
+  @Comment("""
+    The placeholders that could take a long time to be resolved, e.g. placeholders that query a database.
+    These are resolved in background threads, and the scoreboards show their last known value meanwhile, so
+    the placeholders defined here must be safe to be resolved outside the server's main thread.""")
+  public SlowPlaceholderSection[] slowPlaceholders = {};
+
+  @Comment("""
+    The maximum amount of placeholders' values with legacy-colors which deserialized components will be
+    cached, the least-recently-used ones are removed first. Use 0 to disable this cache.""")
+  public int legacyComponentCacheSize = 1024;
+
+  @Comment("""
+    This mean that the placeholders' resolution and the sections' rendering will be profiled, the results are
+    available with the '/packetboard profile' command. Keep it disabled if you don't need it.""")
+  public boolean enableProfiler = false;
+
+  @Comment("""
+    The profiler will time only one of each this amount of calls, all the calls are counted anyway.
+    Lower values are more accurate, but they have a greater overhead.""")
+  public int profilerSampleRate = 10;
+
   @Comment("""
     The mode that will run the plugin's scoreboards during runtime.
-    There four available modes until now:
+    There six available modes until now:
     - GLOBAL : The same scoreboard-format will be used for all players.
     - WORLD : The scoreboard-format will be different depending on the world where
     player is.
     - PERMISSION : The scoreboard-format will be different depending on the permission
     the player have.
     - GROUP : The scoreboard-format will be different depending on the permission-group, or groups
-    that the player have designed, this mode requires LuckPerms installed.""")
+    that the player have designed, this mode requires LuckPerms installed.
+    - RULES : The scoreboard-format will be the one of the highest-priority rule that the player matches,
+    rules could combine worlds, permission-groups and permissions.
+    - REGION : The scoreboard-format will be different depending on the cuboid-region where the player is.""")
   public RuntimeScoreboardMode mode = RuntimeScoreboardMode.GLOBAL;
 
   @Comment("""
-    The title that will be displayed in the animated-title feature.
+    The animation that will be displayed in the animated-title feature.
     This will be displayed in the 'GLOBAL' mode only.""")
-  public Component[] animatedTitleContent = {
-    Component.text("<aqua>PacketBoard"),
-    Component.text("<green>PacketBoard"),
-    Component.text("<yellow>PacketBoard"),
-    Component.text("<red>PacketBoard"),
-    Component.text("<dark_aqua>PacketBoard"),
-    Component.text("<gray>PacketBoard")
-  };
+  public AnimationSection animatedTitle = new AnimationSection();
+
+  @Comment("""
+    Deprecated, replaced by 'animatedTitle.frames'. If it's set, its frames are used for the 'animatedTitle'
+    animation, so old configurations keep their animated-title.""")
+  public @Nullable Component[] animatedTitleContent = null;
+
+  @Comment("""
+    Deprecated, replaced by 'animatedTitle.frameTicks'. If it's set together with 'animatedTitleContent', it's
+    used as the duration in seconds for each frame.""")
+  public @Nullable Byte animatedTitleUpdateRateSeconds = null;
+
+  @Comment("""
+    The animations for specific lines of the scoreboard, these replace the 'globalLines' content for
+    those lines. This will be displayed in the 'GLOBAL' mode only.""")
+  public LineAnimationSection[] animatedGlobalLines = { new LineAnimationSection() };
+
+  @Comment("""
+    The scrolling-text (marquee) lines of the scoreboard, these replace the 'globalLines' content for
+    those lines. This will be displayed in the 'GLOBAL' mode only, and requires the animated-lines feature.""")
+  public MarqueeLineSection[] marqueeGlobalLines = { new MarqueeLineSection() };
 
   @Comment("""
     The static-title that will be displayed in the scoreboard.
@@ -69,7 +145,9 @@ public class SettingsConfigModel {
 
   @Comment("""
     The lines that will be displayed in the scoreboard.
-    This will be displayed in the 'GLOBAL' mode only.""")
+    This will be displayed in the 'GLOBAL' mode only.
+    Built-in placeholders are available as tags without PlaceholderAPI: <online>, <max_players>, <tps>,
+    <world>, <player>, <ping>, <health>, <x>, <y> and <z>.""")
   public Component[] globalLines = {
     Component.text("<aqua>Line 1"),
     Component.text("<yellow>Line 2"),
@@ -77,6 +155,11 @@ public class SettingsConfigModel {
     Component.text("<green>Line 4")
   };
 
+  @Comment("""
+    The conditions to show specific lines of the 'globalLines', the lines are hidden while their conditions
+    aren't met, and the rest of the lines keep their positions. Conditions are ignored for animated-lines.""")
+  public LineConditionSection[] globalLineConditions = {};
+
   @Comment("""
     This section is for scoreboards-by-world configurations, here you can define all the scoreboard-formats
     for all the worlds that are in your server, or that are available for the players.""")
@@ -94,6 +177,173 @@ public class SettingsConfigModel {
     It requires "LuckPerms" dependency installed on your server.""")
   public BoardGroupSection[] scoreboardGroup = { new BoardGroupSection() };
 
+  @Comment("""
+    This section is for scoreboards-by-rules configurations, each rule matches the players that are in any of
+    its worlds, have any of its groups, and have all its permissions. Empty lists match any player.""")
+  public BoardRuleSection[] scoreboardRules = { new BoardRuleSection() };
+
+  @Comment("""
+    This section is for scoreboards-by-region configurations, each region is a cuboid within a world, defined
+    by its corners' block-coordinates. Players outside of any region don't have a scoreboard.""")
+  public BoardRegionSection[] scoreboardRegions = { new BoardRegionSection() };
+
+  @PostProcess
+  private void migrateAnimatedTitle() {
+    // Configurations created before the animations' engine only define these keys for the animated-title.
+    if ((this.animatedTitleContent == null) || (this.animatedTitleContent.length == 0)) return;
+    this.animatedTitle.frames = this.animatedTitleContent;
+    if (this.animatedTitleUpdateRateSeconds != null) {
+      this.animatedTitle.frameTicks = new int[] { Math.max(1, this.animatedTitleUpdateRateSeconds) * 20 };
+    }
+  }
+
+  @ConfigSerializable
+  public static class CachedPlaceholderSection {
+    @Comment("The placeholder to cache, including its '%' delimiters.")
+    public String placeholder = "%server_tps%";
+
+    @Comment("""
+      The scope that shares the same placeholder's value:
+      - GLOBAL : The value is resolved once for all the players on the server.
+      - WORLD : The value is resolved once for all the players in the same world.
+      - PLAYER : The value is resolved once for each player.""")
+    public PlaceholderScope scope = PlaceholderScope.GLOBAL;
+
+    @Comment("The time in milliseconds that the placeholder's value is re-used before it's resolved again.")
+    public long ttlMillis = 1000;
+
+    public CachedPlaceholderSection() {}
+
+    public CachedPlaceholderSection(final String placeholder, final PlaceholderScope scope, final long ttlMillis) {
+      this.placeholder = placeholder;
+      this.scope = scope;
+      this.ttlMillis = ttlMillis;
+    }
+  }
+
+  @ConfigSerializable
+  public static class SlowPlaceholderSection {
+    @Comment("The slow placeholder, including its '%' delimiters.")
+    public String placeholder = "%vault_eco_balance%";
+
+    @Comment("""
+      The maximum time in milliseconds to wait for the placeholder's value, after this time the resolution
+      is cancelled, and the last known value is kept.""")
+    public long timeoutMillis = 1000;
+
+    @Comment("The time in milliseconds that the placeholder's value is shown before it's resolved again.")
+    public long refreshMillis = 5000;
+
+    @Comment("The value shown until the placeholder's value is resolved for the first time.")
+    public String fallback = "...";
+  }
+
+  @ConfigSerializable
+  public static class LineConditionSection {
+    @Comment("The line-number (starting from 1) that will be shown only if the condition is met.")
+    public int line = 1;
+
+    @Comment("""
+      The condition to show the line, comparing placeholders, built-in tags or texts with the operators
+      '==', '!=', '>', '>=', '<' and '<=', e.g. '%player_level% >= 10 && <world> != lobby'. Conditions can be
+      joined with '&&' and '||', and a single placeholder is met if its value isn't empty, 'false', 'no' or '0'.""")
+    public String condition = "%player_is_flying%";
+  }
+
+  @ConfigSerializable
+  public static class AnimationSection {
+    @Comment("""
+      The way that the frames will be played:
+      - LOOP : The frames are played from the first to the last one, and then from the start again.
+      - PING_PONG : The frames are played forward and then backwards, without repeating the edge-frames.""")
+    public AnimationMode mode = AnimationMode.LOOP;
+
+    @Comment("""
+      The duration for each frame in ticks, following the frames' order. If there are less durations than
+      frames, the last duration will be used for the remaining frames.""")
+    public int[] frameTicks = { 20 };
+
+    @Comment("""
+      This mean that each player will see the animation with a different phase based on their unique id,
+      instead of all players seeing the same frame at the same time.""")
+    public boolean playerPhaseOffset = false;
+
+    @Comment("""
+      The frames for this animation. Frames without placeholders are processed only once, when the
+      configuration is loaded.""")
+    public Component[] frames = {
+      Component.text("<aqua>PacketBoard"),
+      Component.text("<green>PacketBoard"),
+      Component.text("<yellow>PacketBoard"),
+      Component.text("<red>PacketBoard"),
+      Component.text("<dark_aqua>PacketBoard"),
+      Component.text("<gray>PacketBoard")
+    };
+
+    @Comment("""
+      A color-effect used to generate this animation's frames, if its type isn't 'NONE', the frames are
+      generated from the effect instead of using the 'frames' list.""")
+    public EffectSection effect = new EffectSection();
+  }
+
+  @ConfigSerializable
+  public static class EffectSection {
+    @Comment("""
+      The color-effect's type:
+      - NONE : No effect is used.
+      - GRADIENT : The given colors flow through the text as a looping gradient.
+      - RAINBOW : All the hue-spectrum flows through the text, the colors are ignored.
+      - SHIMMER : A highlight with the second color sweeps over the text with the first color.""")
+    public ColorEffect type = ColorEffect.NONE;
+
+    @Comment("The text for the effect, its colors are replaced but its decorations are kept.")
+    public String text = "<bold>PacketBoard";
+
+    @Comment("The colors used for the effect, as hex-colors (#55FFFF), or named-colors (aqua).")
+    public String[] colors = { "#55FFFF", "#5555FF" };
+
+    @Comment("The phases-amount (frames) generated for the effect, every frame uses the 'frameTicks' durations.")
+    public int phases = 20;
+  }
+
+  @ConfigSerializable
+  public static class LineAnimationSection extends AnimationSection {
+    @Comment("The line-number (starting from 1) where this animation will be shown.")
+    public int line = 1;
+
+    {
+      this.frames = new Component[] {
+        Component.text("<white>» <aqua>Line 1"),
+        Component.text("<aqua>» <white>Line 1")
+      };
+    }
+  }
+
+  @ConfigSerializable
+  public static class MarqueeLineSection {
+    @Comment("The line-number (starting from 1) where this scrolling-text will be shown.")
+    public int line = 4;
+
+    @Comment("""
+      The text that will scroll through the line, placeholders aren't supported here due that the
+      frames are generated only once, when the configuration is loaded.""")
+    public Component text = Component.text("<gradient:aqua:green>Welcome to our server! Visit our store at store.example.com");
+
+    @Comment("The visible characters-amount of the text at the same time.")
+    public int width = 20;
+
+    @Comment("The plain-text shown between the text's end and its start again.")
+    public String separator = "   ";
+
+    @Comment("The ticks-amount before the text scrolls one character.")
+    public int frameTicks = 3;
+
+    @Comment("""
+      This mean that each player will see the text with a different phase based on their unique id,
+      instead of all players seeing the same frame at the same time.""")
+    public boolean playerPhaseOffset = false;
+  }
+
   @ConfigSerializable
   public static class BoardWorldSection {
     @Comment("The world where this scoreboard will appear.")
@@ -109,6 +359,9 @@ public class SettingsConfigModel {
       Component.text("<red>Line 3"),
       Component.text("<green>Line 4")
     };
+
+    @Comment("The conditions to show specific lines of this scoreboard.")
+    public LineConditionSection[] conditions = {};
   }
 
   @ConfigSerializable
@@ -116,6 +369,11 @@ public class SettingsConfigModel {
     @Comment("The permission required to see this scoreboard.")
     public String node = "staffmode.permission";
 
+    @Comment("""
+      The priority of this scoreboard, if the player has several of these permissions, the scoreboard with
+      the highest priority is shown.""")
+    public int priority = 0;
+
     @Comment("The title for this permission's scoreboard.")
     public String title = "<gradient:blue:red>PacketBoard | Staff";
 
@@ -126,6 +384,9 @@ public class SettingsConfigModel {
       Component.text("<red>Line 3"),
       Component.text("<green>Line 4")
     };
+
+    @Comment("The conditions to show specific lines of this scoreboard.")
+    public LineConditionSection[] conditions = {};
   }
 
   @ConfigSerializable
@@ -143,5 +404,76 @@ public class SettingsConfigModel {
       Component.text("<red>Line 3"),
       Component.text("<green>Line 4")
     };
+
+    @Comment("The conditions to show specific lines of this scoreboard.")
+    public LineConditionSection[] conditions = {};
+  }
+
+  @ConfigSerializable
+  public static class BoardRuleSection {
+    @Comment("""
+      The priority of this rule, if the player matches several rules, the scoreboard of the rule with the
+      highest priority is shown.""")
+    public int priority = 0;
+
+    @Comment("The worlds where this scoreboard could appear, leave it empty to match any world.")
+    public String[] worlds = { "arena" };
+
+    @Comment("""
+      The primary-groups that could see this scoreboard, leave it empty to match any group.
+      This requires LuckPerms installed.""")
+    public String[] groups = { "vip" };
+
+    @Comment("The permissions required to see this scoreboard, all of them are required.")
+    public String[] permissions = {};
+
+    @Comment("The title for this rule's scoreboard.")
+    public String title = "<gradient:gold:yellow>PacketBoard | Arena";
+
+    @Comment("The lines for this rule's scoreboard.")
+    public Component[] lines = {
+      Component.text("<aqua>Line 1"),
+      Component.text("<yellow>Line 2"),
+      Component.text("<red>Line 3"),
+      Component.text("<green>Line 4")
+    };
+
+    @Comment("The conditions to show specific lines of this scoreboard.")
+    public LineConditionSection[] conditions = {};
+  }
+
+  @ConfigSerializable
+  public static class BoardRegionSection {
+    @Comment("The world where this region is.")
+    public String world = "world";
+
+    @Comment("""
+      The priority of this region, if the player is within several regions, the scoreboard of the region
+      with the highest priority is shown.""")
+    public int priority = 0;
+
+    @Comment("The first corner's block-coordinates of this region.")
+    public int minX = -50;
+    public int minY = -64;
+    public int minZ = -50;
+
+    @Comment("The second corner's block-coordinates of this region.")
+    public int maxX = 50;
+    public int maxY = 320;
+    public int maxZ = 50;
+
+    @Comment("The title for this region's scoreboard.")
+    public String title = "<gradient:green:aqua>PacketBoard | Spawn";
+
+    @Comment("The lines for this region's scoreboard.")
+    public Component[] lines = {
+      Component.text("<aqua>Line 1"),
+      Component.text("<yellow>Line 2"),
+      Component.text("<red>Line 3"),
+      Component.text("<green>Line 4")
+    };
+
+    @Comment("The conditions to show specific lines of this scoreboard.")
+    public LineConditionSection[] conditions = {};
   }
 }
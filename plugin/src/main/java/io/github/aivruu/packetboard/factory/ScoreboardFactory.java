@@ -16,64 +16,132 @@
 // along with this program. If not, see <https://www.gnu.org/licenses/>.
 package io.github.aivruu.packetboard.factory;
 
+import io.github.aivruu.packetboard.board.BoardTemplate;
+import io.github.aivruu.packetboard.board.RuntimeScoreboardMode;
 import io.github.aivruu.packetboard.util.ComponentParserUtils;
 import io.github.aivruu.packetboard.config.object.SettingsConfigModel;
 import io.github.aivruu.packetboard.manager.BoardManager;
-import io.github.aivruu.packetboard.util.LuckPermsUtil;
+import io.github.aivruu.packetboard.section.SectionSelector;
+import io.github.aivruu.packetboard.task.LinesUpdatePluginTask;
 import org.bukkit.entity.Player;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class ScoreboardFactory {
+  private final Map<String, BoardTemplate> templates = new ConcurrentHashMap<>();
   private final BoardManager boardManager;
+  private final SectionSelector sectionSelector;
+  private volatile @Nullable LinesUpdatePluginTask linesUpdatePluginTask;
 
-  public ScoreboardFactory(final BoardManager boardManager) {
+  public ScoreboardFactory(final BoardManager boardManager, final SectionSelector sectionSelector) {
     this.boardManager = boardManager;
+    this.sectionSelector = sectionSelector;
+  }
+
+  public void configModel(final SettingsConfigModel updatedConfigModel) {
+    final var globalTemplate = this.templates.get(templateKey(RuntimeScoreboardMode.GLOBAL, 0));
+    // Templates are created again with the new configuration's content when they're needed.
+    this.templates.clear();
+    // Global scoreboards are updated in a single pass, the rest are updated when they're created again.
+    if ((globalTemplate != null) && (updatedConfigModel.mode == RuntimeScoreboardMode.GLOBAL)) {
+      this.boardManager.updateTemplate(globalTemplate, this.template(updatedConfigModel, 0));
+    }
+  }
+
+  /**
+   * Sets the task used to render the scoreboards' lines once they're shown.
+   *
+   * @param linesUpdatePluginTask the lines' task, or {@code null} if the lines-refreshing is disabled.
+   * @since 1.0.0
+   */
+  public void linesUpdatePluginTask(final @Nullable LinesUpdatePluginTask linesUpdatePluginTask) {
+    this.linesUpdatePluginTask = linesUpdatePluginTask;
   }
 
   public void create(final Player player, final SettingsConfigModel config) {
-    switch (config.mode) {
-      case GLOBAL -> {
-        if (config.enableAnimatedTitleFeature) {
-          this.boardManager.create(player, config.animatedTitleContent[0], config.globalLines);
-        } else {
-          this.boardManager.create(player, ComponentParserUtils.apply(config.globalTitle), config.globalLines);
-        }
+    if (config.mode == RuntimeScoreboardMode.GLOBAL) {
+      if (this.boardManager.create(player, this.template(config, 0))) {
+        this.refreshLines(player);
       }
-      // The title-animation doesn't consider specific modes. so we avoid bugs with the title.
-      case WORLD -> {
-        if (!config.enableAnimatedTitleFeature) this.fromWorldSections(config, player);
-      }
-      case PERMISSION -> {
-        if (!config.enableAnimatedTitleFeature) this.fromPermissionSections(config, player);
-      }
-      case GROUP -> {
-        if (!config.enableAnimatedTitleFeature) this.fromGroupSections(config, player);
-      }
-    };
+      return;
+    }
+    // The title-animation doesn't consider specific modes. so we avoid bugs with the title.
+    if (config.enableAnimatedTitleFeature) return;
+    final var section = this.sectionSelector.select(player);
+    if (section == SectionSelector.NO_SECTION) return;
+    this.show(player, config, section);
   }
 
-  private void fromWorldSections(final SettingsConfigModel config, final Player player) {
-    for (final var worldSection : config.scoreboardWorld) {
-      if (!player.getWorld().getName().equals(worldSection.designedWorld)) continue;
-      // Create scoreboard using this world-section's title and defined content.
-      this.boardManager.create(player, ComponentParserUtils.apply(worldSection.title), worldSection.lines);
+  /**
+   * Switches the player's scoreboard to the player's currently selected section, re-using the scoreboard that
+   * was prepared for that section before, if there's one.
+   *
+   * @param player the player to who switch the scoreboard.
+   * @param config the current configuration.
+   * @return Whether the scoreboard was switched, {@code false} if the player's scoreboard is turned-off.
+   * @since 1.0.0
+   */
+  public boolean switchSection(final Player player, final SettingsConfigModel config) {
+    final var section = this.sectionSelector.select(player);
+    if (section == SectionSelector.NO_SECTION) {
+      // The sidebar is only cleared, so prepared scoreboards and the turned-off status are kept.
+      this.boardManager.conceal(player);
+      return true;
     }
+    return this.show(player, config, section);
   }
 
-  private void fromPermissionSections(final SettingsConfigModel config, final Player player) {
-    for (final var permissionSection : config.scoreboardPermission) {
-      if (!player.hasPermission(permissionSection.node)) continue;
-      this.boardManager.create(player, ComponentParserUtils.apply(permissionSection.title), permissionSection.lines);
+  private boolean show(final Player player, final SettingsConfigModel config, final int section) {
+    // Each section's scoreboard is prepared only once for the player, then it's only displayed again.
+    final var key = templateKey(config.mode, section);
+    final var shown = this.boardManager.switchTo(player, key)
+      || (this.boardManager.prepare(player, key, this.template(config, section)) && this.boardManager.switchTo(player, key));
+    if (shown) {
+      this.refreshLines(player);
     }
+    return shown;
   }
 
-  private void fromGroupSections(final SettingsConfigModel config, final Player player) {
-    for (final var groupSection : config.scoreboardGroup) {
-      final var playerGroup = LuckPermsUtil.primaryGroup(player.getUniqueId());
-      // Check if player's user information is available, and its group can see this scoreboard.
-      if ((playerGroup == null) || !playerGroup.equals(groupSection.designedGroup)) {
-        continue;
+  private void refreshLines(final Player player) {
+    // Lines' conditions are evaluated immediately, instead of waiting for the next periodic refresh.
+    final var linesUpdatePluginTask = this.linesUpdatePluginTask;
+    if (linesUpdatePluginTask == null) return;
+    linesUpdatePluginTask.refresh(player);
+  }
+
+  private BoardTemplate template(final SettingsConfigModel config, final int section) {
+    // All the players with the same section share a single template.
+    return this.templates.computeIfAbsent(templateKey(config.mode, section), key -> switch (config.mode) {
+      // The animation's frames could be empty, in that case the static-title is shown instead.
+      case GLOBAL -> (config.enableAnimatedTitleFeature && (config.animatedTitle.frames.length > 0))
+        ? BoardTemplate.of(config.animatedTitle.frames[0], config.globalLines)
+        : BoardTemplate.of(ComponentParserUtils.apply(config.globalTitle), config.globalLines);
+      case WORLD -> {
+        final var worldSection = config.scoreboardWorld[section];
+        yield BoardTemplate.of(ComponentParserUtils.apply(worldSection.title), worldSection.lines);
       }
-      this.boardManager.create(player, ComponentParserUtils.apply(groupSection.title), groupSection.lines);
-    }
+      case PERMISSION -> {
+        final var permissionSection = config.scoreboardPermission[section];
+        yield BoardTemplate.of(ComponentParserUtils.apply(permissionSection.title), permissionSection.lines);
+      }
+      case GROUP -> {
+        final var groupSection = config.scoreboardGroup[section];
+        yield BoardTemplate.of(ComponentParserUtils.apply(groupSection.title), groupSection.lines);
+      }
+      case RULES -> {
+        final var ruleSection = config.scoreboardRules[section];
+        yield BoardTemplate.of(ComponentParserUtils.apply(ruleSection.title), ruleSection.lines);
+      }
+      case REGION -> {
+        final var regionSection = config.scoreboardRegions[section];
+        yield BoardTemplate.of(ComponentParserUtils.apply(regionSection.title), regionSection.lines);
+      }
+    });
+  }
+
+  private static String templateKey(final RuntimeScoreboardMode mode, final int section) {
+    return mode.name() + ':' + section;
   }
 }
@@ -0,0 +1,62 @@
+// This file is part of packet-board, licensed under the GNU License.
+//
+// Copyright (c) 2024 aivruu
+//
+// This program is free software: you can redistribute it and/or modify
+// it under the terms of the GNU General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// This program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU General Public License
+// along with this program. If not, see <https://www.gnu.org/licenses/>.
+package io.github.aivruu.packetboard.listener;
+
+import io.github.aivruu.packetboard.activity.PlayerActivityTracker;
+import io.papermc.paper.event.player.AsyncChatEvent;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerInteractEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerMoveEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+public class PlayerActivityListener implements Listener {
+  private final PlayerActivityTracker activityTracker;
+
+  public PlayerActivityListener(final PlayerActivityTracker activityTracker) {
+    this.activityTracker = activityTracker;
+  }
+
+  @EventHandler(priority = EventPriority.LOWEST)
+  public void onJoin(final PlayerJoinEvent event) {
+    this.activityTracker.register(event.getPlayer().getUniqueId().toString());
+  }
+
+  @EventHandler(priority = EventPriority.MONITOR)
+  public void onQuit(final PlayerQuitEvent event) {
+    this.activityTracker.unregister(event.getPlayer().getUniqueId().toString());
+  }
+
+  @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+  public void onMove(final PlayerMoveEvent event) {
+    // Ignore sub-block position changes, so players pushed by water-streams are still considered as idle.
+    if (!event.hasChangedBlock() && !event.hasChangedOrientation()) return;
+    this.activityTracker.markActive(event.getPlayer().getUniqueId().toString());
+  }
+
+  @EventHandler(priority = EventPriority.MONITOR)
+  public void onInteract(final PlayerInteractEvent event) {
+    this.activityTracker.markActive(event.getPlayer().getUniqueId().toString());
+  }
+
+  @EventHandler(priority = EventPriority.MONITOR)
+  public void onChat(final AsyncChatEvent event) {
+    this.activityTracker.markActive(event.getPlayer().getUniqueId().toString());
+  }
+}
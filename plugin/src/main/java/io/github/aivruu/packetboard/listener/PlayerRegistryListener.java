@@ -16,26 +16,35 @@
 // along with this program. If not, see <https://www.gnu.org/licenses/>.
 package io.github.aivruu.packetboard.listener;
 
+import io.github.aivruu.packetboard.board.RuntimeScoreboardMode;
 import io.github.aivruu.packetboard.config.object.SettingsConfigModel;
 import io.github.aivruu.packetboard.factory.ScoreboardFactory;
 import io.github.aivruu.packetboard.manager.BoardManager;
+import io.github.aivruu.packetboard.placeholder.PlaceholderResultCache;
+import io.github.aivruu.packetboard.util.LuckPermsUtil;
 import net.kyori.adventure.text.logger.slf4j.ComponentLogger;
 import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
+import org.bukkit.event.player.AsyncPlayerPreLoginEvent;
 import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerLoginEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
 
 public class PlayerRegistryListener implements Listener {
   private final ComponentLogger logger;
   private final BoardManager boardManager;
   private final ScoreboardFactory scoreboardFactory;
+  private final PlaceholderResultCache placeholderResultCache;
   private SettingsConfigModel configModel;
 
   public PlayerRegistryListener(final ComponentLogger logger, final BoardManager boardManager,
-                                final ScoreboardFactory scoreboardFactory, final SettingsConfigModel configModel) {
+                                final ScoreboardFactory scoreboardFactory, final PlaceholderResultCache placeholderResultCache,
+                                final SettingsConfigModel configModel) {
     this.logger = logger;
     this.boardManager = boardManager;
     this.scoreboardFactory = scoreboardFactory;
+    this.placeholderResultCache = placeholderResultCache;
     this.configModel = configModel;
   }
 
@@ -43,6 +52,24 @@ public class PlayerRegistryListener implements Listener {
     this.configModel = updatedConfigModel;
   }
 
+  @EventHandler(priority = EventPriority.MONITOR)
+  public void onPreLogin(final AsyncPlayerPreLoginEvent event) {
+    final var mode = this.configModel.mode;
+    if (((mode != RuntimeScoreboardMode.GROUP) && (mode != RuntimeScoreboardMode.RULES))
+      || (event.getLoginResult() != AsyncPlayerPreLoginEvent.Result.ALLOWED)) {
+      return;
+    }
+    // The player's group is loaded here asynchronously, so it's already available when the scoreboard is created.
+    LuckPermsUtil.load(event.getUniqueId());
+  }
+
+  @EventHandler(priority = EventPriority.MONITOR)
+  public void onLogin(final PlayerLoginEvent event) {
+    // Players rejected after their pre-login never quit, so their cached group is removed here.
+    if (event.getResult() == PlayerLoginEvent.Result.ALLOWED) return;
+    LuckPermsUtil.invalidate(event.getPlayer().getUniqueId());
+  }
+
   @EventHandler
   public void onJoin(final PlayerJoinEvent event) {
     this.scoreboardFactory.create(event.getPlayer(), this.configModel);
@@ -50,7 +77,11 @@ public class PlayerRegistryListener implements Listener {
 
   @EventHandler
   public void onQuit(final PlayerQuitEvent event) {
-    if (!this.boardManager.delete(event.getPlayer())) {
+    final var player = event.getPlayer();
+    this.placeholderResultCache.invalidate(player.getUniqueId().toString());
+    LuckPermsUtil.invalidate(player.getUniqueId());
+    this.boardManager.forgetViewer(player.getUniqueId());
+    if (!this.boardManager.delete(player)) {
       this.logger.error("An error occurred while deleting the board for player");
     }
   }
@@ -0,0 +1,128 @@
+// This file is part of packet-board, licensed under the GNU License.
+//
+// Copyright (c) 2024 aivruu
+//
+// This program is free software: you can redistribute it and/or modify
+// it under the terms of the GNU General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// This program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU General Public License
+// along with this program. If not, see <https://www.gnu.org/licenses/>.
+package io.github.aivruu.packetboard.listener;
+
+import io.github.aivruu.packetboard.board.CachedBoardModel;
+import io.github.aivruu.packetboard.board.RuntimeScoreboardMode;
+import io.github.aivruu.packetboard.config.object.SettingsConfigModel;
+import io.github.aivruu.packetboard.factory.ScoreboardFactory;
+import io.github.aivruu.packetboard.manager.BoardManager;
+import io.github.aivruu.packetboard.repository.RepositoryModel;
+import io.github.aivruu.packetboard.section.SectionSelector;
+import io.github.aivruu.packetboard.util.LuckPermsUtil;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerChangedWorldEvent;
+import org.bukkit.event.player.PlayerMoveEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.player.PlayerTeleportEvent;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.UUID;
+
+public class SectionSwitchListener implements Listener {
+  private final Plugin plugin;
+  private final RepositoryModel<CachedBoardModel> boardRepository;
+  private final BoardManager boardManager;
+  private final ScoreboardFactory scoreboardFactory;
+  private final SectionSelector sectionSelector;
+  private SettingsConfigModel configModel;
+
+  public SectionSwitchListener(final Plugin plugin, final RepositoryModel<CachedBoardModel> boardRepository,
+                               final BoardManager boardManager, final ScoreboardFactory scoreboardFactory,
+                               final SectionSelector sectionSelector, final SettingsConfigModel configModel) {
+    this.plugin = plugin;
+    this.boardRepository = boardRepository;
+    this.boardManager = boardManager;
+    this.scoreboardFactory = scoreboardFactory;
+    this.sectionSelector = sectionSelector;
+    this.configModel = configModel;
+    // Permissions and groups modifications are notified by LuckPerms, if it's available.
+    LuckPermsUtil.subscribeRecalculations(plugin, this::onRecalculation);
+  }
+
+  public void configModel(final SettingsConfigModel updatedConfigModel) {
+    this.configModel = updatedConfigModel;
+    if (updatedConfigModel.mode == RuntimeScoreboardMode.GLOBAL) return;
+    // Selections are stale after a reload, so every player is switched to their section with the new configuration.
+    for (final var player : Bukkit.getOnlinePlayers()) {
+      player.getScheduler().run(this.plugin, switchTask -> this.switchSection(player, null), null);
+    }
+  }
+
+  @EventHandler(priority = EventPriority.MONITOR)
+  public void onWorldChange(final PlayerChangedWorldEvent event) {
+    final var mode = this.configModel.mode;
+    if ((mode != RuntimeScoreboardMode.WORLD) && (mode != RuntimeScoreboardMode.RULES)
+      && (mode != RuntimeScoreboardMode.REGION)) {
+      return;
+    }
+    this.switchSection(event.getPlayer(), null);
+  }
+
+  @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+  public void onMove(final PlayerMoveEvent event) {
+    // Regions are only looked-up when the player crosses a block's boundary.
+    if ((this.configModel.mode != RuntimeScoreboardMode.REGION) || !event.hasChangedBlock()) return;
+    this.switchSection(event.getPlayer(), event.getTo());
+  }
+
+  @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+  public void onTeleport(final PlayerTeleportEvent event) {
+    if ((this.configModel.mode != RuntimeScoreboardMode.REGION) || !event.hasChangedBlock()) return;
+    this.switchSection(event.getPlayer(), event.getTo());
+  }
+
+  @EventHandler(priority = EventPriority.MONITOR)
+  public void onQuit(final PlayerQuitEvent event) {
+    this.sectionSelector.invalidate(event.getPlayer().getUniqueId().toString());
+  }
+
+  private void onRecalculation(final UUID playerId) {
+    final var mode = this.configModel.mode;
+    if ((mode != RuntimeScoreboardMode.PERMISSION) && (mode != RuntimeScoreboardMode.GROUP)
+      && (mode != RuntimeScoreboardMode.RULES)) {
+      return;
+    }
+    final var player = Bukkit.getPlayer(playerId);
+    if (player == null) return;
+    // LuckPerms' events are called asynchronously, so the switch is done from the player's owning thread.
+    player.getScheduler().run(this.plugin, switchTask -> this.switchSection(player, null), null);
+  }
+
+  private void switchSection(final Player player, final @Nullable Location location) {
+    // The section is resolved again, but the scoreboard is only re-created if the section has changed.
+    if (!this.sectionSelector.reselect(player, location)) return;
+    // Prepared scoreboards are switched with a single packet, turned-off scoreboards are re-created instead.
+    if (this.scoreboardFactory.switchSection(player, this.configModel)) return;
+    final var cachedBoardModel = this.boardRepository.findSync(player.getUniqueId().toString());
+    final var hidden = (cachedBoardModel != null) && !cachedBoardModel.visible();
+    if (cachedBoardModel != null) {
+      this.boardManager.delete(player);
+    }
+    this.scoreboardFactory.create(player, this.configModel);
+    // Players that turned-off their scoreboard keep it turned-off.
+    if (hidden) {
+      this.boardManager.toggle(player);
+    }
+  }
+}
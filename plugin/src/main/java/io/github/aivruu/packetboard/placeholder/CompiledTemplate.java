@@ -0,0 +1,349 @@
+// This file is part of packet-board, licensed under the GNU License.
+//
+// Copyright (c) 2024 aivruu
+//
+// This program is free software: you can redistribute it and/or modify
+// it under the terms of the GNU General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// This program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU General Public License
+// along with this program. If not, see <https://www.gnu.org/licenses/>.
+package io.github.aivruu.packetboard.placeholder;
+
+import io.github.aivruu.packetboard.cache.LruCache;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.format.Style;
+import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+/**
+ * This class is used as a compiled-version of a configured line. The component's tree is parsed only once into
+ * static sub-trees and placeholder-slots, so the rendering only needs to resolve the placeholders' values and
+ * rebuild the components that contain them, the rest of the tree is re-used as it is.
+ *
+ * @since 1.0.0
+ */
+public final class CompiledTemplate {
+  private static final Pattern PLACEHOLDER_PATTERN = Pattern.compile("%[^%\\s]+%");
+  /** Used for placeholders' values that contain legacy-colors. */
+  private static final LegacyComponentSerializer LEGACY_SECTION_SERIALIZER = LegacyComponentSerializer.legacySection();
+  private static final LegacyComponentSerializer LEGACY_AMPERSAND_SERIALIZER = LegacyComponentSerializer.legacyAmpersand();
+  /** Matches an ampersand followed by a legacy color, decoration, reset or hex code. */
+  private static final Pattern LEGACY_AMPERSAND_CODE_PATTERN = Pattern.compile("&[0-9a-fk-orx]", Pattern.CASE_INSENSITIVE);
+  private static final LruCache<String, Component> LEGACY_COMPONENT_CACHE = new LruCache<>(1024);
+  private final Component source;
+  private final String[] placeholders;
+  /** Whether each placeholder is a built-in one, following the {@link #placeholders()} order. */
+  private final boolean[] nativePlaceholders;
+  private final @Nullable Node root;
+  private final PlaceholderScope audience;
+
+  private CompiledTemplate(final Component source, final String[] placeholders, final boolean[] nativePlaceholders,
+                           final @Nullable Node root, final PlaceholderScope audience) {
+    this.source = source;
+    this.placeholders = placeholders;
+    this.nativePlaceholders = nativePlaceholders;
+    this.root = root;
+    this.audience = audience;
+  }
+
+  /**
+   * Compiles the given component into a new {@link CompiledTemplate}, any template with placeholders is
+   * considered as player-dependent.
+   *
+   * @param source the component to compile.
+   * @return The compiled template.
+   * @since 1.0.0
+   */
+  public static CompiledTemplate compile(final Component source) {
+    return compile(source, placeholder -> PlaceholderScope.PLAYER);
+  }
+
+  /**
+   * Compiles the given component into a new {@link CompiledTemplate}, classifying its audience using the
+   * given placeholders' scopes.
+   *
+   * @param source the component to compile.
+   * @param placeholderScopes the function that provides the scope for each placeholder.
+   * @return The compiled template.
+   * @since 1.0.0
+   */
+  public static CompiledTemplate compile(final Component source, final Function<String, PlaceholderScope> placeholderScopes) {
+    final var placeholders = new ArrayList<String>();
+    final var root = compileNode(source, placeholders);
+    // The template can be shared by all the players within the widest scope of its placeholders.
+    var audience = PlaceholderScope.GLOBAL;
+    final var nativePlaceholders = new boolean[placeholders.size()];
+    for (int i = 0; i < nativePlaceholders.length; i++) {
+      final var placeholder = placeholders.get(i);
+      final var nativePlaceholder = NativePlaceholders.find(placeholder);
+      nativePlaceholders[i] = nativePlaceholder != null;
+      final var scope = (nativePlaceholder != null) ? nativePlaceholder.scope() : placeholderScopes.apply(placeholder);
+      if (scope.ordinal() > audience.ordinal()) {
+        audience = scope;
+      }
+    }
+    return new CompiledTemplate(source, placeholders.toArray(String[]::new), nativePlaceholders,
+      (root instanceof StaticNode) ? null : root, audience);
+  }
+
+  /**
+   * Compiles each one of the given components into a new {@link CompiledTemplate}.
+   *
+   * @param sources the components to compile.
+   * @param placeholderScopes the function that provides the scope for each placeholder.
+   * @return The compiled templates, following the given components' order.
+   * @since 1.0.0
+   */
+  public static CompiledTemplate[] compileAll(final Component[] sources,
+                                              final Function<String, PlaceholderScope> placeholderScopes) {
+    final var templates = new CompiledTemplate[sources.length];
+    for (int i = 0; i < sources.length; i++) {
+      templates[i] = compile(sources[i], placeholderScopes);
+    }
+    return templates;
+  }
+
+  private static Node compileNode(final Component component, final List<String> placeholders) {
+    final var children = component.children();
+    final var childNodes = new Node[children.size()];
+    var dynamicChildren = false;
+    for (int i = 0; i < childNodes.length; i++) {
+      childNodes[i] = compileNode(children.get(i), placeholders);
+      dynamicChildren |= !(childNodes[i] instanceof StaticNode);
+    }
+    if (component instanceof final TextComponent textComponent) {
+      final var content = textComponent.content();
+      final var matcher = PLACEHOLDER_PATTERN.matcher(content);
+      if (matcher.find()) {
+        // The content is split into literals, with a placeholder-slot between each one of them.
+        final var literals = new ArrayList<String>();
+        final var slots = new ArrayList<Integer>();
+        var literalStart = 0;
+        do {
+          literals.add(content.substring(literalStart, matcher.start()));
+          slots.add(slot(placeholders, matcher.group()));
+          literalStart = matcher.end();
+        } while (matcher.find());
+        literals.add(content.substring(literalStart));
+        return new TextNode(textComponent.style(), literals.toArray(String[]::new),
+          slots.stream().mapToInt(Integer::intValue).toArray(), childNodes);
+      }
+    }
+    // Sub-trees without placeholders are re-used without any modification.
+    return dynamicChildren ? new ParentNode(component.children(List.of()), childNodes) : new StaticNode(component);
+  }
+
+  private static int slot(final List<String> placeholders, final String placeholder) {
+    final var slot = placeholders.indexOf(placeholder);
+    if (slot != -1) {
+      return slot;
+    }
+    placeholders.add(placeholder);
+    return placeholders.size() - 1;
+  }
+
+  /**
+   * Returns the cache used for the deserialized placeholders' values that contain legacy-colors.
+   *
+   * @return The legacy-components' cache.
+   * @since 1.0.0
+   */
+  public static LruCache<String, Component> legacyComponentCache() {
+    return LEGACY_COMPONENT_CACHE;
+  }
+
+  private static @Nullable Component legacyValue(final String value) {
+    // The same values are repeated constantly between players and refreshes, so their components are re-used.
+    if (value.indexOf(LegacyComponentSerializer.SECTION_CHAR) != -1) {
+      return LEGACY_COMPONENT_CACHE.get(value, LEGACY_SECTION_SERIALIZER::deserialize);
+    }
+    // Plain ampersands such as 'Tom & Jerry' are kept as text, only the values with legacy-codes are deserialized.
+    if ((value.indexOf(LegacyComponentSerializer.AMPERSAND_CHAR) != -1) && LEGACY_AMPERSAND_CODE_PATTERN.matcher(value).find()) {
+      return LEGACY_COMPONENT_CACHE.get(value, LEGACY_AMPERSAND_SERIALIZER::deserialize);
+    }
+    return null;
+  }
+
+  /**
+   * Returns the component used to compile this template.
+   *
+   * @return The template's source component.
+   * @since 1.0.0
+   */
+  public Component source() {
+    return this.source;
+  }
+
+  /**
+   * Returns the distinct placeholders of this template, the values given to {@link #render(String[], Component[])}
+   * must follow this order.
+   *
+   * @return The template's placeholders.
+   * @since 1.0.0
+   */
+  public String[] placeholders() {
+    return this.placeholders;
+  }
+
+  /**
+   * Returns whether the placeholder at the given position is a built-in one.
+   *
+   * @param slot the placeholder's position, following the {@link #placeholders()} order.
+   * @return Whether the placeholder is resolved by {@link PlaceholderResolver#resolveNative(String)}.
+   * @since 1.0.0
+   */
+  public boolean nativePlaceholder(final int slot) {
+    return this.nativePlaceholders[slot];
+  }
+
+  /**
+   * Returns whether this template contains built-in placeholders.
+   *
+   * @return Whether the template has built-in placeholders.
+   * @since 1.0.0
+   */
+  public boolean hasNativePlaceholders() {
+    for (final var nativePlaceholder : this.nativePlaceholders) {
+      if (nativePlaceholder) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Returns whether this template contains placeholders.
+   *
+   * @return Whether the template must be rendered for each viewer.
+   * @since 1.0.0
+   */
+  public boolean dynamic() {
+    return this.root != null;
+  }
+
+  /**
+   * Returns the widest audience that sees the same rendered component for this template, {@link PlaceholderScope#GLOBAL}
+   * if it's the same for all the players, {@link PlaceholderScope#WORLD} if it's the same for all the players in the
+   * same world, or {@link PlaceholderScope#PLAYER} if it must be rendered for each player.
+   *
+   * @return The template's audience.
+   * @since 1.0.0
+   */
+  public PlaceholderScope audience() {
+    return this.audience;
+  }
+
+  /**
+   * Renders this template resolving each one of its placeholders only once.
+   *
+   * @param resolver the resolver for the placeholders' values.
+   * @return The rendered component, or the source component if the template doesn't have placeholders.
+   * @since 1.0.0
+   */
+  public Component render(final PlaceholderResolver resolver) {
+    if (this.root == null) {
+      return this.source;
+    }
+    final var values = new String[this.placeholders.length];
+    final var nativeValues = new Component[this.placeholders.length];
+    for (int i = 0; i < values.length; i++) {
+      if (this.nativePlaceholders[i]) {
+        nativeValues[i] = resolver.resolveNative(this.placeholders[i]);
+      } else {
+        values[i] = resolver.resolve(this.placeholders[i]);
+      }
+    }
+    return this.root.render(values, nativeValues);
+  }
+
+  /**
+   * Renders this template using the given placeholders' values.
+   *
+   * @param values the placeholders' values, following the {@link #placeholders()} order.
+   * @param nativeValues the built-in placeholders' values, following the {@link #placeholders()} order.
+   * @return The rendered component, or the source component if the template doesn't have placeholders.
+   * @since 1.0.0
+   */
+  public Component render(final String[] values, final Component[] nativeValues) {
+    return (this.root == null) ? this.source : this.root.render(values, nativeValues);
+  }
+
+  private sealed interface Node permits StaticNode, ParentNode, TextNode {
+    Component render(final String[] values, final Component[] nativeValues);
+  }
+
+  private record StaticNode(Component component) implements Node {
+    @Override
+    public Component render(final String[] values, final Component[] nativeValues) {
+      return this.component;
+    }
+  }
+
+  private record ParentNode(Component component, Node[] children) implements Node {
+    @Override
+    public Component render(final String[] values, final Component[] nativeValues) {
+      final var renderedChildren = new ArrayList<Component>(this.children.length);
+      for (final var child : this.children) {
+        renderedChildren.add(child.render(values, nativeValues));
+      }
+      return this.component.children(renderedChildren);
+    }
+  }
+
+  private record TextNode(Style style, String[] literals, int[] slots, Node[] children) implements Node {
+    @Override
+    public Component render(final String[] values, final Component[] nativeValues) {
+      final var builder = Component.text().style(this.style);
+      final var content = new StringBuilder(this.literals[0]);
+      var appendedChildren = false;
+      for (int i = 0; i < this.slots.length; i++) {
+        final var nativeValue = nativeValues[this.slots[i]];
+        if (nativeValue != null) {
+          // Built-in values are already components, so they're appended as children without any parsing.
+          appendedChildren = this.flush(builder, content, appendedChildren);
+          builder.append(nativeValue);
+          content.append(this.literals[i + 1]);
+          continue;
+        }
+        final var value = values[this.slots[i]];
+        final var legacyValue = legacyValue(value);
+        if (legacyValue == null) {
+          content.append(value);
+        } else {
+          // Colored values are appended as children, so they inherit this component's style.
+          appendedChildren = this.flush(builder, content, appendedChildren);
+          builder.append(legacyValue);
+        }
+        content.append(this.literals[i + 1]);
+      }
+      this.flush(builder, content, appendedChildren);
+      for (final var child : this.children) {
+        builder.append(child.render(values, nativeValues));
+      }
+      return builder.build();
+    }
+
+    private boolean flush(final TextComponent.Builder builder, final StringBuilder content, final boolean appendedChildren) {
+      if (!appendedChildren) {
+        builder.content(content.toString());
+      } else if (!content.isEmpty()) {
+        builder.append(Component.text(content.toString()));
+      }
+      content.setLength(0);
+      return true;
+    }
+  }
+}
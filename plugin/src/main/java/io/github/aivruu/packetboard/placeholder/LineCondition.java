@@ -0,0 +1,229 @@
+// This file is part of packet-board, licensed under the GNU License.
+//
+// Copyright (c) 2024 aivruu
+//
+// This program is free software: you can redistribute it and/or modify
+// it under the terms of the GNU General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// This program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU General Public License
+// along with this program. If not, see <https://www.gnu.org/licenses/>.
+package io.github.aivruu.packetboard.placeholder;
+
+import net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * This class is used to compile a line's visibility-condition only once, when the configuration is loaded, so
+ * the condition is evaluated against the resolved placeholders without parsing it again for each refresh.
+ * <p>
+ * Conditions are comparisons between placeholders, built-in tags or literals, e.g. {@code %player_level% >= 10},
+ * joined with {@code &&} and {@code ||}. A single operand is true when its value isn't empty, 'false', 'no' or '0'.
+ *
+ * @since 1.0.0
+ */
+public final class LineCondition {
+  private static final Pattern OR_PATTERN = Pattern.compile("\\|\\|");
+  private static final Pattern AND_PATTERN = Pattern.compile("&&");
+  private static final Operator[] OPERATORS = Operator.values();
+  private final Comparison[][] clauses;
+  private final List<String> placeholders;
+
+  private LineCondition(final Comparison[][] clauses, final List<String> placeholders) {
+    this.clauses = clauses;
+    this.placeholders = placeholders;
+  }
+
+  /**
+   * Compiles the given condition's expression.
+   *
+   * @param expression the condition's expression.
+   * @return The compiled condition.
+   * @since 1.0.0
+   */
+  public static LineCondition compile(final String expression) {
+    final var placeholders = new LinkedHashSet<String>();
+    final var orClauses = OR_PATTERN.split(expression);
+    final var clauses = new Comparison[orClauses.length][];
+    for (int i = 0; i < orClauses.length; i++) {
+      final var andClauses = AND_PATTERN.split(orClauses[i]);
+      clauses[i] = new Comparison[andClauses.length];
+      for (int j = 0; j < andClauses.length; j++) {
+        final var comparison = Comparison.compile(andClauses[j]);
+        comparison.collectPlaceholders(placeholders);
+        clauses[i][j] = comparison;
+      }
+    }
+    return new LineCondition(clauses, List.copyOf(placeholders));
+  }
+
+  /**
+   * Returns the placeholders used by this condition, which must be resolved before its evaluation.
+   *
+   * @return The condition's placeholders.
+   * @since 1.0.0
+   */
+  public List<String> placeholders() {
+    return this.placeholders;
+  }
+
+  /**
+   * Evaluates this condition with the given resolver's values.
+   *
+   * @param resolver the resolver for the placeholders' values.
+   * @return Whether the condition is met.
+   * @since 1.0.0
+   */
+  public boolean test(final PlaceholderResolver resolver) {
+    for (final var andClauses : this.clauses) {
+      var met = true;
+      for (final var comparison : andClauses) {
+        if (!comparison.test(resolver)) {
+          met = false;
+          break;
+        }
+      }
+      if (met) return true;
+    }
+    return false;
+  }
+
+  private enum Operator {
+    // Two-characters operators are checked first, so '>=' isn't matched as '>'.
+    GREATER_OR_EQUALS(">="),
+    LESS_OR_EQUALS("<="),
+    EQUALS("=="),
+    NOT_EQUALS("!="),
+    GREATER(">"),
+    LESS("<");
+
+    private final String symbol;
+
+    Operator(final String symbol) {
+      this.symbol = symbol;
+    }
+  }
+
+  private record Operand(String text, boolean placeholder, boolean nativePlaceholder, double number) {
+    static Operand compile(final String text) {
+      final var trimmedText = text.trim();
+      if ((trimmedText.length() > 2) && trimmedText.startsWith("%") && trimmedText.endsWith("%")) {
+        return new Operand(trimmedText, true, NativePlaceholders.find(trimmedText) != null, Double.NaN);
+      }
+      // Built-in tags are written as in the lines, e.g. '<online>'.
+      if ((trimmedText.length() > 2) && trimmedText.startsWith("<") && trimmedText.endsWith(">")) {
+        final var key = NativePlaceholders.KEY_PREFIX + trimmedText.substring(1, trimmedText.length() - 1) + '%';
+        if (NativePlaceholders.find(key) != null) {
+          return new Operand(key, true, true, Double.NaN);
+        }
+      }
+      return new Operand(trimmedText, false, false, parseNumber(trimmedText));
+    }
+
+    String value(final PlaceholderResolver resolver) {
+      if (!this.placeholder) return this.text;
+      return this.nativePlaceholder
+        ? PlainTextComponentSerializer.plainText().serialize(resolver.resolveNative(this.text))
+        : resolver.resolve(this.text);
+    }
+
+    double number(final String value) {
+      return this.placeholder ? parseNumber(value) : this.number;
+    }
+  }
+
+  private record Comparison(Operand left, @Nullable Operator operator, @Nullable Operand right) {
+    static Comparison compile(final String clause) {
+      for (int i = 0; i < clause.length(); i++) {
+        // Built-in tags are skipped, so their '<' and '>' aren't matched as operators.
+        final var tagEnd = tagEnd(clause, i);
+        if (tagEnd > i) {
+          i = tagEnd;
+          continue;
+        }
+        for (final var operator : OPERATORS) {
+          if (!clause.startsWith(operator.symbol, i)) continue;
+          return new Comparison(Operand.compile(clause.substring(0, i)), operator,
+            Operand.compile(clause.substring(i + operator.symbol.length())));
+        }
+      }
+      return new Comparison(Operand.compile(clause), null, null);
+    }
+
+    private static int tagEnd(final String clause, final int start) {
+      if (clause.charAt(start) != '<') return -1;
+      for (int i = start + 1; i < clause.length(); i++) {
+        final var character = clause.charAt(i);
+        if (character == '>') return (i > (start + 1)) ? i : -1;
+        if (!Character.isLetterOrDigit(character) && (character != '_')) return -1;
+      }
+      return -1;
+    }
+
+    void collectPlaceholders(final LinkedHashSet<String> placeholders) {
+      if (this.left.placeholder()) {
+        placeholders.add(this.left.text());
+      }
+      if ((this.right != null) && this.right.placeholder()) {
+        placeholders.add(this.right.text());
+      }
+    }
+
+    boolean test(final PlaceholderResolver resolver) {
+      final var leftValue = this.left.value(resolver);
+      if ((this.operator == null) || (this.right == null)) {
+        return truthy(leftValue);
+      }
+      final var rightValue = this.right.value(resolver);
+      final var leftNumber = this.left.number(leftValue);
+      final var rightNumber = this.right.number(rightValue);
+      // Values are compared as numbers when both are numeric, otherwise only equality is supported.
+      if (!Double.isNaN(leftNumber) && !Double.isNaN(rightNumber)) {
+        final var comparison = Double.compare(leftNumber, rightNumber);
+        return switch (this.operator) {
+          case GREATER_OR_EQUALS -> comparison >= 0;
+          case LESS_OR_EQUALS -> comparison <= 0;
+          case EQUALS -> comparison == 0;
+          case NOT_EQUALS -> comparison != 0;
+          case GREATER -> comparison > 0;
+          case LESS -> comparison < 0;
+        };
+      }
+      return switch (this.operator) {
+        case EQUALS -> leftValue.equalsIgnoreCase(rightValue);
+        case NOT_EQUALS -> !leftValue.equalsIgnoreCase(rightValue);
+        default -> false;
+      };
+    }
+  }
+
+  private static boolean truthy(final String value) {
+    final var trimmedValue = value.trim().toLowerCase(Locale.ROOT);
+    return !trimmedValue.isEmpty() && !trimmedValue.equals("false") && !trimmedValue.equals("no")
+      && !trimmedValue.equals("0");
+  }
+
+  private static double parseNumber(final String value) {
+    final var trimmedValue = value.trim().replace(",", "");
+    if (trimmedValue.isEmpty()) return Double.NaN;
+    // Only values that could be numbers are parsed, so we avoid the exceptions' cost for the rest.
+    final var firstChar = trimmedValue.charAt(0);
+    if (!Character.isDigit(firstChar) && (firstChar != '-') && (firstChar != '.')) return Double.NaN;
+    try {
+      return Double.parseDouble(trimmedValue);
+    } catch (final NumberFormatException exception) {
+      return Double.NaN;
+    }
+  }
+}
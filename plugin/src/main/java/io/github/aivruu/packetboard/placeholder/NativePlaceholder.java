@@ -0,0 +1,42 @@
+// This file is part of packet-board, licensed under the GNU License.
+//
+// Copyright (c) 2024 aivruu
+//
+// This program is free software: you can redistribute it and/or modify
+// it under the terms of the GNU General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// This program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU General Public License
+// along with this program. If not, see <https://www.gnu.org/licenses/>.
+package io.github.aivruu.packetboard.placeholder;
+
+import net.kyori.adventure.text.Component;
+import org.bukkit.entity.Player;
+
+import java.util.function.Function;
+
+/**
+ * Represents a built-in placeholder, resolved directly into a component without PlaceholderAPI.
+ *
+ * @param name the placeholder's name, used as MiniMessage tag.
+ * @param scope the placeholder's scope, used to classify the lines' audience.
+ * @param resolver the function used to resolve the placeholder's value for a player.
+ * @since 1.0.0
+ */
+public record NativePlaceholder(String name, PlaceholderScope scope, Function<Player, Component> resolver) {
+  /**
+   * Returns the key used for this placeholder into the compiled components.
+   *
+   * @return The placeholder's key, including its '%' delimiters.
+   * @since 1.0.0
+   */
+  public String key() {
+    return NativePlaceholders.KEY_PREFIX + this.name + '%';
+  }
+}
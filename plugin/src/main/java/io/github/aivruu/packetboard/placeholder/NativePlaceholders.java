@@ -0,0 +1,116 @@
+// This file is part of packet-board, licensed under the GNU License.
+//
+// Copyright (c) 2024 aivruu
+//
+// This program is free software: you can redistribute it and/or modify
+// it under the terms of the GNU General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// This program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU General Public License
+// along with this program. If not, see <https://www.gnu.org/licenses/>.
+package io.github.aivruu.packetboard.placeholder;
+
+import io.github.aivruu.packetboard.util.NumberComponentUtils;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.minimessage.tag.Tag;
+import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * This class is used as registry for the built-in placeholders. These are written as MiniMessage tags into the
+ * configuration, e.g. {@code <online>}, and they're compiled as placeholder-slots that are resolved directly
+ * into components, without PlaceholderAPI, nor any string-parsing.
+ *
+ * @since 1.0.0
+ */
+public final class NativePlaceholders {
+  static final String KEY_PREFIX = "%packetboard_";
+  private static final Map<String, Component> WORLD_NAMES = new ConcurrentHashMap<>();
+  private static final Map<String, NativePlaceholder> PLACEHOLDERS;
+  private static final TagResolver TAG_RESOLVER;
+
+  static {
+    final var placeholders = new NativePlaceholder[] {
+      new NativePlaceholder("online", PlaceholderScope.GLOBAL,
+        player -> NumberComponentUtils.integer(Bukkit.getOnlinePlayers().size())),
+      new NativePlaceholder("max_players", PlaceholderScope.GLOBAL,
+        player -> NumberComponentUtils.integer(Bukkit.getMaxPlayers())),
+      new NativePlaceholder("tps", PlaceholderScope.GLOBAL,
+        player -> NumberComponentUtils.decimal(Math.min(20.0, Bukkit.getTPS()[0]), 2)),
+      new NativePlaceholder("world", PlaceholderScope.WORLD,
+        player -> WORLD_NAMES.computeIfAbsent(player.getWorld().getName(), Component::text)),
+      new NativePlaceholder("player", PlaceholderScope.PLAYER, player -> Component.text(player.getName())),
+      new NativePlaceholder("ping", PlaceholderScope.PLAYER, player -> NumberComponentUtils.integer(player.getPing())),
+      new NativePlaceholder("health", PlaceholderScope.PLAYER,
+        player -> NumberComponentUtils.decimal(player.getHealth(), 1)),
+      new NativePlaceholder("x", PlaceholderScope.PLAYER,
+        player -> NumberComponentUtils.integer(player.getLocation().getBlockX())),
+      new NativePlaceholder("y", PlaceholderScope.PLAYER,
+        player -> NumberComponentUtils.integer(player.getLocation().getBlockY())),
+      new NativePlaceholder("z", PlaceholderScope.PLAYER,
+        player -> NumberComponentUtils.integer(player.getLocation().getBlockZ()))
+    };
+    final var placeholdersByKey = new HashMap<String, NativePlaceholder>();
+    final var tagResolvers = new ArrayList<TagResolver>(placeholders.length);
+    for (final var placeholder : placeholders) {
+      final var key = placeholder.key();
+      placeholdersByKey.put(key, placeholder);
+      // The tag is replaced by its key, which is compiled later as a placeholder-slot.
+      tagResolvers.add(TagResolver.resolver(placeholder.name(), Tag.selfClosingInserting(Component.text(key))));
+    }
+    PLACEHOLDERS = Map.copyOf(placeholdersByKey);
+    TAG_RESOLVER = TagResolver.resolver(tagResolvers);
+  }
+
+  private NativePlaceholders() {
+    throw new UnsupportedOperationException("This class is for utility.");
+  }
+
+  /**
+   * Returns the {@link TagResolver} for the built-in placeholders, used when the configuration is deserialized.
+   *
+   * @return The built-in placeholders' tag-resolver.
+   * @since 1.0.0
+   */
+  public static TagResolver tagResolver() {
+    return TAG_RESOLVER;
+  }
+
+  /**
+   * Returns the built-in placeholder with the given key.
+   *
+   * @param key the placeholder's key, including its '%' delimiters.
+   * @return The {@link NativePlaceholder}, or {@code null} if the key isn't for a built-in placeholder.
+   * @since 1.0.0
+   */
+  public static @Nullable NativePlaceholder find(final String key) {
+    return key.startsWith(KEY_PREFIX) ? PLACEHOLDERS.get(key) : null;
+  }
+
+  /**
+   * Resolves the built-in placeholder with the given key for the player, this must be called from the player's
+   * owning thread.
+   *
+   * @param player the player used for placeholders-applying.
+   * @param key the placeholder's key, including its '%' delimiters.
+   * @return The placeholder's value, or the given key as text if it isn't for a built-in placeholder.
+   * @since 1.0.0
+   */
+  public static Component resolve(final Player player, final String key) {
+    final var placeholder = find(key);
+    return (placeholder == null) ? Component.text(key) : placeholder.resolver().apply(player);
+  }
+}
@@ -0,0 +1,117 @@
+// This file is part of packet-board, licensed under the GNU License.
+//
+// Copyright (c) 2024 aivruu
+//
+// This program is free software: you can redistribute it and/or modify
+// it under the terms of the GNU General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// This program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU General Public License
+// along with this program. If not, see <https://www.gnu.org/licenses/>.
+package io.github.aivruu.packetboard.placeholder;
+
+import net.kyori.adventure.text.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This class is used to group the distinct placeholders of several templates, so all of them can be resolved
+ * in a single pass into a {@link PlaceholderSnapshot}.
+ *
+ * @since 1.0.0
+ */
+public final class PlaceholderBatch {
+  private final String[] placeholders;
+  private final boolean[] nativePlaceholders;
+  private final Map<String, Integer> slots;
+
+  private PlaceholderBatch(final String[] placeholders, final boolean[] nativePlaceholders, final Map<String, Integer> slots) {
+    this.placeholders = placeholders;
+    this.nativePlaceholders = nativePlaceholders;
+    this.slots = slots;
+  }
+
+  /**
+   * Creates a new {@link PlaceholderBatch} with the distinct placeholders of the given templates.
+   *
+   * @param templates the templates to group.
+   * @return The created batch.
+   * @since 1.0.0
+   */
+  public static PlaceholderBatch of(final Collection<CompiledTemplate> templates) {
+    return of(templates, List.of());
+  }
+
+  /**
+   * Creates a new {@link PlaceholderBatch} with the distinct placeholders of the given templates, and the given
+   * additional placeholders, e.g. the ones used by the lines' conditions.
+   *
+   * @param templates the templates to group.
+   * @param additionalPlaceholders the additional placeholders to group, including their '%' delimiters.
+   * @return The created batch.
+   * @since 1.0.0
+   */
+  public static PlaceholderBatch of(final Collection<CompiledTemplate> templates,
+                                    final Collection<String> additionalPlaceholders) {
+    final var placeholders = new ArrayList<String>();
+    final var slots = new HashMap<String, Integer>();
+    for (final var template : templates) {
+      for (final var placeholder : template.placeholders()) {
+        if (slots.putIfAbsent(placeholder, placeholders.size()) == null) {
+          placeholders.add(placeholder);
+        }
+      }
+    }
+    for (final var placeholder : additionalPlaceholders) {
+      if (slots.putIfAbsent(placeholder, placeholders.size()) == null) {
+        placeholders.add(placeholder);
+      }
+    }
+    final var nativePlaceholders = new boolean[placeholders.size()];
+    for (int i = 0; i < nativePlaceholders.length; i++) {
+      nativePlaceholders[i] = NativePlaceholders.find(placeholders.get(i)) != null;
+    }
+    return new PlaceholderBatch(placeholders.toArray(String[]::new), nativePlaceholders, Map.copyOf(slots));
+  }
+
+  /**
+   * Returns whether this batch doesn't have any placeholder.
+   *
+   * @return Whether the batch is empty.
+   * @since 1.0.0
+   */
+  public boolean empty() {
+    return this.placeholders.length == 0;
+  }
+
+  /**
+   * Resolves all the placeholders of this batch, this must be called from the player's owning thread, as most of
+   * the placeholders' providers aren't thread-safe.
+   *
+   * @param resolver the resolver for the placeholders' values.
+   * @return The snapshot with the resolved values.
+   * @since 1.0.0
+   */
+  public PlaceholderSnapshot snapshot(final PlaceholderResolver resolver) {
+    final var values = new String[this.placeholders.length];
+    final var nativeValues = new Component[this.placeholders.length];
+    for (int i = 0; i < values.length; i++) {
+      if (this.nativePlaceholders[i]) {
+        nativeValues[i] = resolver.resolveNative(this.placeholders[i]);
+      } else {
+        values[i] = resolver.resolve(this.placeholders[i]);
+      }
+    }
+    return new PlaceholderSnapshot(this.slots, values, nativeValues);
+  }
+}
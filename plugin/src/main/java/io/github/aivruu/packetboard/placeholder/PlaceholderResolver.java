@@ -0,0 +1,48 @@
+// This file is part of packet-board, licensed under the GNU License.
+//
+// Copyright (c) 2024 aivruu
+//
+// This program is free software: you can redistribute it and/or modify
+// it under the terms of the GNU General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// This program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU General Public License
+// along with this program. If not, see <https://www.gnu.org/licenses/>.
+package io.github.aivruu.packetboard.placeholder;
+
+import net.kyori.adventure.text.Component;
+
+/**
+ * This interface is used to provide the values for the placeholders of a {@link CompiledTemplate}.
+ *
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface PlaceholderResolver {
+  /**
+   * Resolves the given placeholder.
+   *
+   * @param placeholder the placeholder to resolve, including its '%' delimiters.
+   * @return The placeholder's value.
+   * @since 1.0.0
+   */
+  String resolve(final String placeholder);
+
+  /**
+   * Resolves the given built-in placeholder.
+   *
+   * @param key the built-in placeholder's key, including its '%' delimiters.
+   * @return The placeholder's value, by default the given key as text.
+   * @see NativePlaceholders
+   * @since 1.0.0
+   */
+  default Component resolveNative(final String key) {
+    return Component.text(key);
+  }
+}
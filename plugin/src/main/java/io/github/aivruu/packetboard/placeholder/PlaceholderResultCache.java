@@ -0,0 +1,213 @@
+// This file is part of packet-board, licensed under the GNU License.
+//
+// Copyright (c) 2024 aivruu
+//
+// This program is free software: you can redistribute it and/or modify
+// it under the terms of the GNU General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// This program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU General Public License
+// along with this program. If not, see <https://www.gnu.org/licenses/>.
+package io.github.aivruu.packetboard.placeholder;
+
+import io.github.aivruu.packetboard.config.object.SettingsConfigModel;
+import io.github.aivruu.packetboard.profiler.RenderProfiler;
+import io.github.aivruu.packetboard.util.PlaceholderParsingUtils;
+import net.kyori.adventure.text.Component;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * This class is used to cache the placeholders' values depending on their configured scope and time-to-live, so
+ * global placeholders are resolved once for the whole server, and world placeholders once for each world.
+ *
+ * @since 1.0.0
+ */
+public final class PlaceholderResultCache {
+  private final Map<String, CachedValue> globalValues = new ConcurrentHashMap<>();
+  private final Map<String, Map<String, CachedValue>> worldValues = new ConcurrentHashMap<>();
+  private final Map<String, Map<String, CachedValue>> playerValues = new ConcurrentHashMap<>();
+  private final SlowPlaceholderResolver slowPlaceholderResolver;
+  private final RenderProfiler profiler;
+  private Map<String, CacheRule> rules;
+
+  public PlaceholderResultCache(final RenderProfiler profiler, final SettingsConfigModel config) {
+    this.profiler = profiler;
+    this.slowPlaceholderResolver = new SlowPlaceholderResolver(config);
+    this.configModel(config);
+  }
+
+  public void configModel(final SettingsConfigModel updatedConfigModel) {
+    this.slowPlaceholderResolver.configModel(updatedConfigModel);
+    final var rules = new HashMap<String, CacheRule>();
+    if (updatedConfigModel.enablePlaceholderCache) {
+      for (final var cachedPlaceholderSection : updatedConfigModel.cachedPlaceholders) {
+        if (cachedPlaceholderSection.ttlMillis <= 0) continue;
+        rules.put(cachedPlaceholderSection.placeholder,
+          new CacheRule(cachedPlaceholderSection.scope, cachedPlaceholderSection.ttlMillis));
+      }
+    }
+    this.rules = Map.copyOf(rules);
+    // Cached values could belong to placeholders that aren't cached anymore, or with a different scope.
+    this.globalValues.clear();
+    this.worldValues.clear();
+    this.playerValues.clear();
+  }
+
+  /**
+   * Creates a new resolver for a single render-pass of the player's scoreboard, every placeholder is resolved
+   * only once during the pass, even if it's used by different lines.
+   *
+   * @param player the player for who the scoreboard is rendered.
+   * @return A new {@link PlaceholderResolver} for the render-pass.
+   * @since 1.0.0
+   */
+  public PlaceholderResolver resolver(final Player player) {
+    return new RenderPassResolver(this, player);
+  }
+
+  /**
+   * Resolves the given placeholder for the player, re-using its cached value if it's cached and not expired yet.
+   *
+   * @param player the player used for placeholders-applying.
+   * @param placeholder the placeholder to resolve, including its '%' delimiters.
+   * @return The placeholder's value.
+   * @since 1.0.0
+   */
+  public String resolve(final Player player, final String placeholder) {
+    final var rule = this.rules.get(placeholder);
+    if (rule == null) {
+      return this.resolveUncached(player, placeholder);
+    }
+    final var scopeValues = switch (rule.scope()) {
+      case GLOBAL -> this.globalValues;
+      case WORLD -> this.worldValues.computeIfAbsent(player.getWorld().getName(), key -> new ConcurrentHashMap<>());
+      case PLAYER -> this.playerValues.computeIfAbsent(player.getUniqueId().toString(), key -> new ConcurrentHashMap<>());
+    };
+    final var now = System.currentTimeMillis();
+    final var cachedValue = scopeValues.get(placeholder);
+    if ((cachedValue != null) && (cachedValue.expiresAt() > now)) {
+      return cachedValue.value();
+    }
+    final var value = this.resolveUncached(player, placeholder);
+    scopeValues.put(placeholder, new CachedValue(value, now + rule.ttlMillis()));
+    return value;
+  }
+
+  private String resolveUncached(final Player player, final String placeholder) {
+    final var sample = this.profiler.start();
+    // Slow placeholders never block the caller, their last known value is used while they're resolved.
+    final var value = this.slowPlaceholderResolver.slow(placeholder)
+      ? this.slowPlaceholderResolver.resolve(player, placeholder)
+      : PlaceholderParsingUtils.resolve(player, placeholder);
+    this.profiler.recordPlaceholder(placeholder, sample);
+    return value;
+  }
+
+  private Component resolveNative(final Player player, final String key) {
+    final var sample = this.profiler.start();
+    final var value = NativePlaceholders.resolve(player, key);
+    this.profiler.recordPlaceholder(key, sample);
+    return value;
+  }
+
+  /**
+   * Returns the scope for the given placeholder, placeholders that aren't cached are considered as player-dependent.
+   *
+   * @param placeholder the placeholder, including its '%' delimiters.
+   * @return The placeholder's scope.
+   * @since 1.0.0
+   */
+  public PlaceholderScope scope(final String placeholder) {
+    final var nativePlaceholder = NativePlaceholders.find(placeholder);
+    if (nativePlaceholder != null) {
+      return nativePlaceholder.scope();
+    }
+    final var rule = this.rules.get(placeholder);
+    return (rule == null) ? PlaceholderScope.PLAYER : rule.scope();
+  }
+
+  /**
+   * Removes the cached values of the given placeholder that are visible for the player.
+   *
+   * @param player the player for who the placeholder's value has changed.
+   * @param placeholder the placeholder, including its '%' delimiters.
+   * @since 1.0.0
+   */
+  public void invalidate(final Player player, final String placeholder) {
+    this.globalValues.remove(placeholder);
+    final var worldValues = this.worldValues.get(player.getWorld().getName());
+    if (worldValues != null) {
+      worldValues.remove(placeholder);
+    }
+    final var playerValues = this.playerValues.get(player.getUniqueId().toString());
+    if (playerValues != null) {
+      playerValues.remove(placeholder);
+    }
+  }
+
+  /**
+   * Removes all the cached values for the player with the given id.
+   *
+   * @param playerId the player's unique id.
+   * @since 1.0.0
+   */
+  public void invalidate(final String playerId) {
+    this.playerValues.remove(playerId);
+    this.slowPlaceholderResolver.invalidate(playerId);
+  }
+
+  /**
+   * Stops the slow placeholders' background resolutions, used when the plugin is disabled.
+   *
+   * @since 1.0.0
+   */
+  public void shutdown() {
+    this.slowPlaceholderResolver.shutdown();
+  }
+
+  private record CacheRule(PlaceholderScope scope, long ttlMillis) {}
+
+  private record CachedValue(String value, long expiresAt) {}
+
+  private static final class RenderPassResolver implements PlaceholderResolver {
+    private final PlaceholderResultCache cache;
+    private final Player player;
+    private @Nullable Map<String, String> passValues;
+
+    private RenderPassResolver(final PlaceholderResultCache cache, final Player player) {
+      this.cache = cache;
+      this.player = player;
+    }
+
+    @Override
+    public String resolve(final String placeholder) {
+      // Most of the passes only render a few lines, so the map is only created when it's necessary.
+      if (this.passValues == null) {
+        this.passValues = new HashMap<>();
+      }
+      var value = this.passValues.get(placeholder);
+      if (value == null) {
+        value = this.cache.resolve(this.player, placeholder);
+        this.passValues.put(placeholder, value);
+      }
+      return value;
+    }
+
+    @Override
+    public Component resolveNative(final String key) {
+      // Built-in values are cheap enough, so they aren't cached.
+      return this.cache.resolveNative(this.player, key);
+    }
+  }
+}
@@ -0,0 +1,44 @@
+// This file is part of packet-board, licensed under the GNU License.
+//
+// Copyright (c) 2024 aivruu
+//
+// This program is free software: you can redistribute it and/or modify
+// it under the terms of the GNU General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// This program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU General Public License
+// along with this program. If not, see <https://www.gnu.org/licenses/>.
+package io.github.aivruu.packetboard.placeholder;
+
+/**
+ * This enum is used to represent the audience that shares the same value for a placeholder, used to know
+ * for how many players a resolved value can be re-used.
+ *
+ * @since 1.0.0
+ */
+public enum PlaceholderScope {
+  /**
+   * The placeholder's value is the same for all the players on the server.
+   *
+   * @since 1.0.0
+   */
+  GLOBAL,
+  /**
+   * The placeholder's value is the same for all the players in the same world.
+   *
+   * @since 1.0.0
+   */
+  WORLD,
+  /**
+   * The placeholder's value is different for each player.
+   *
+   * @since 1.0.0
+   */
+  PLAYER
+}
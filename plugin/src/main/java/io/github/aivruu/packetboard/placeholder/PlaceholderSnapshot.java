@@ -0,0 +1,52 @@
+// This file is part of packet-board, licensed under the GNU License.
+//
+// Copyright (c) 2024 aivruu
+//
+// This program is free software: you can redistribute it and/or modify
+// it under the terms of the GNU General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// This program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU General Public License
+// along with this program. If not, see <https://www.gnu.org/licenses/>.
+package io.github.aivruu.packetboard.placeholder;
+
+import net.kyori.adventure.text.Component;
+
+import java.util.Map;
+
+/**
+ * This class is used to store the placeholders' values resolved by a {@link PlaceholderBatch}, the snapshot is
+ * immutable, so it can be used to render the templates from any thread.
+ *
+ * @since 1.0.0
+ */
+public final class PlaceholderSnapshot implements PlaceholderResolver {
+  private final Map<String, Integer> slots;
+  private final String[] values;
+  private final Component[] nativeValues;
+
+  PlaceholderSnapshot(final Map<String, Integer> slots, final String[] values, final Component[] nativeValues) {
+    this.slots = slots;
+    this.values = values;
+    this.nativeValues = nativeValues;
+  }
+
+  @Override
+  public String resolve(final String placeholder) {
+    final var slot = this.slots.get(placeholder);
+    // Placeholders out of the batch are kept as they are, they can't be resolved outside the owning thread.
+    return (slot == null) ? placeholder : this.values[slot];
+  }
+
+  @Override
+  public Component resolveNative(final String key) {
+    final var slot = this.slots.get(key);
+    return ((slot == null) || (this.nativeValues[slot] == null)) ? Component.text(key) : this.nativeValues[slot];
+  }
+}
@@ -0,0 +1,152 @@
+// This file is part of packet-board, licensed under the GNU License.
+//
+// Copyright (c) 2024 aivruu
+//
+// This program is free software: you can redistribute it and/or modify
+// it under the terms of the GNU General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// This program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU General Public License
+// along with this program. If not, see <https://www.gnu.org/licenses/>.
+package io.github.aivruu.packetboard.placeholder;
+
+import io.github.aivruu.packetboard.config.object.SettingsConfigModel;
+import io.github.aivruu.packetboard.util.PlaceholderParsingUtils;
+import org.bukkit.entity.Player;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * This class is used to resolve the placeholders marked as slow without blocking the caller. Their values are
+ * resolved on virtual-threads with a timeout, and the last known value is returned until the new one arrives.
+ *
+ * @since 1.0.0
+ */
+public final class SlowPlaceholderResolver {
+  private final ExecutorService virtualExecutor = Executors.newVirtualThreadPerTaskExecutor();
+  private final Map<String, Map<String, SlowValue>> playerValues = new ConcurrentHashMap<>();
+  private Map<String, SlowRule> rules;
+
+  public SlowPlaceholderResolver(final SettingsConfigModel config) {
+    this.configModel(config);
+  }
+
+  public void configModel(final SettingsConfigModel updatedConfigModel) {
+    final var rules = new HashMap<String, SlowRule>();
+    for (final var slowPlaceholderSection : updatedConfigModel.slowPlaceholders) {
+      rules.put(slowPlaceholderSection.placeholder, new SlowRule(Math.max(1, slowPlaceholderSection.timeoutMillis),
+        Math.max(0, slowPlaceholderSection.refreshMillis), slowPlaceholderSection.fallback));
+    }
+    this.rules = Map.copyOf(rules);
+    this.playerValues.clear();
+  }
+
+  /**
+   * Returns whether the given placeholder is marked as slow.
+   *
+   * @param placeholder the placeholder, including its '%' delimiters.
+   * @return Whether the placeholder must be resolved by this resolver.
+   * @since 1.0.0
+   */
+  public boolean slow(final String placeholder) {
+    return this.rules.containsKey(placeholder);
+  }
+
+  /**
+   * Returns the last known value of the slow placeholder for the player, starting its resolution in background
+   * if the value should be refreshed. This method never blocks.
+   *
+   * @param player the player used for placeholders-applying.
+   * @param placeholder the slow placeholder, including its '%' delimiters.
+   * @return The placeholder's last known value, or its fallback-value if it hasn't been resolved yet.
+   * @since 1.0.0
+   */
+  public String resolve(final Player player, final String placeholder) {
+    final var rule = this.rules.get(placeholder);
+    if (rule == null) {
+      return placeholder;
+    }
+    final var slowValue = this.playerValues.computeIfAbsent(player.getUniqueId().toString(), key -> new ConcurrentHashMap<>())
+      .computeIfAbsent(placeholder, key -> new SlowValue(rule.fallback()));
+    final var now = System.currentTimeMillis();
+    // Only one resolution is started at the same time for each value.
+    if (((now - slowValue.refreshedAt) >= rule.refreshMillis()) && slowValue.refreshing.compareAndSet(false, true)) {
+      this.refresh(player, placeholder, rule, slowValue);
+    }
+    return slowValue.value;
+  }
+
+  private void refresh(final Player player, final String placeholder, final SlowRule rule, final SlowValue slowValue) {
+    final var resolution = new CompletableFuture<String>();
+    final Future<?> task;
+    try {
+      task = this.virtualExecutor.submit(() -> {
+        try {
+          resolution.complete(PlaceholderParsingUtils.resolve(player, placeholder));
+        } catch (final Throwable throwable) {
+          resolution.completeExceptionally(throwable);
+        }
+      });
+    } catch (final RejectedExecutionException exception) {
+      // The resolver was shut-down, so the last known value is kept.
+      slowValue.refreshing.set(false);
+      return;
+    }
+    resolution.orTimeout(rule.timeoutMillis(), TimeUnit.MILLISECONDS).whenComplete((value, throwable) -> {
+      if (throwable == null) {
+        slowValue.value = value;
+      } else {
+        // The resolution is interrupted, and the last known value is kept until the next refresh.
+        task.cancel(true);
+      }
+      slowValue.refreshedAt = System.currentTimeMillis();
+      slowValue.refreshing.set(false);
+    });
+  }
+
+  /**
+   * Removes all the values for the player with the given id.
+   *
+   * @param playerId the player's unique id.
+   * @since 1.0.0
+   */
+  public void invalidate(final String playerId) {
+    this.playerValues.remove(playerId);
+  }
+
+  /**
+   * Stops the background resolutions, interrupting the ones that are still running.
+   *
+   * @since 1.0.0
+   */
+  public void shutdown() {
+    this.virtualExecutor.shutdownNow();
+  }
+
+  private record SlowRule(long timeoutMillis, long refreshMillis, String fallback) {}
+
+  private static final class SlowValue {
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    private volatile String value;
+    private volatile long refreshedAt = Long.MIN_VALUE / 2;
+
+    private SlowValue(final String fallback) {
+      this.value = fallback;
+    }
+  }
+}
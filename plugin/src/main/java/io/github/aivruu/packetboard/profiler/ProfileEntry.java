@@ -0,0 +1,111 @@
+// This file is part of packet-board, licensed under the GNU License.
+//
+// Copyright (c) 2024 aivruu
+//
+// This program is free software: you can redistribute it and/or modify
+// it under the terms of the GNU General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// This program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU General Public License
+// along with this program. If not, see <https://www.gnu.org/licenses/>.
+package io.github.aivruu.packetboard.profiler;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * This class is used to aggregate the calls, timings and allocations of a profiled placeholder, or section.
+ * The timings are stored in a logarithmic histogram, so the percentiles are approximated to the power of two
+ * above them.
+ *
+ * @since 1.0.0
+ */
+public final class ProfileEntry {
+  private static final int BUCKETS = 64;
+  private final LongAdder calls = new LongAdder();
+  private final LongAdder samples = new LongAdder();
+  private final LongAdder sampledNanos = new LongAdder();
+  private final LongAdder sampledAllocatedBytes = new LongAdder();
+  private final AtomicLongArray histogram = new AtomicLongArray(BUCKETS);
+  private final String name;
+
+  ProfileEntry(final String name) {
+    this.name = name;
+  }
+
+  void call() {
+    this.calls.increment();
+  }
+
+  void sample(final long nanos, final long allocatedBytes) {
+    this.samples.increment();
+    this.sampledNanos.add(nanos);
+    if (allocatedBytes > 0) {
+      this.sampledAllocatedBytes.add(allocatedBytes);
+    }
+    this.histogram.incrementAndGet(BUCKETS - Long.numberOfLeadingZeros(Math.max(1, nanos)));
+  }
+
+  public String name() {
+    return this.name;
+  }
+
+  public long calls() {
+    return this.calls.sum();
+  }
+
+  public long samples() {
+    return this.samples.sum();
+  }
+
+  /**
+   * Returns the estimated total time spent by all the calls, extrapolated from the sampled ones.
+   *
+   * @return The estimated total time, in nanoseconds.
+   * @since 1.0.0
+   */
+  public long estimatedTotalNanos() {
+    final var samples = this.samples.sum();
+    return (samples == 0) ? 0 : (long) ((double) this.sampledNanos.sum() / samples * this.calls.sum());
+  }
+
+  /**
+   * Returns the average bytes allocated by each sampled call.
+   *
+   * @return The average allocated bytes.
+   * @since 1.0.0
+   */
+  public long averageAllocatedBytes() {
+    final var samples = this.samples.sum();
+    return (samples == 0) ? 0 : this.sampledAllocatedBytes.sum() / samples;
+  }
+
+  /**
+   * Returns the approximated latency for the given percentile of the sampled calls.
+   *
+   * @param percentile the percentile, between zero and one.
+   * @return The percentile's latency upper-bound, in nanoseconds.
+   * @since 1.0.0
+   */
+  public long percentileNanos(final double percentile) {
+    final var samples = this.samples.sum();
+    if (samples == 0) {
+      return 0;
+    }
+    final var target = (long) Math.ceil(samples * percentile);
+    long cumulative = 0;
+    for (int i = 0; i < BUCKETS; i++) {
+      cumulative += this.histogram.get(i);
+      if (cumulative >= target) {
+        return 1L << Math.min(62, i);
+      }
+    }
+    return Long.MAX_VALUE;
+  }
+}
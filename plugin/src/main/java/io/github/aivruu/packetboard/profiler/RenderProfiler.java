@@ -0,0 +1,168 @@
+// This file is part of packet-board, licensed under the GNU License.
+//
+// Copyright (c) 2024 aivruu
+//
+// This program is free software: you can redistribute it and/or modify
+// it under the terms of the GNU General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// This program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU General Public License
+// along with this program. If not, see <https://www.gnu.org/licenses/>.
+package io.github.aivruu.packetboard.profiler;
+
+import com.sun.management.ThreadMXBean;
+import io.github.aivruu.packetboard.config.object.SettingsConfigModel;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * This class is used as a sampling-profiler for the placeholders' resolution and the sections' rendering. All
+ * the calls are counted, but only a sample of them is timed, so its overhead is kept low while it's enabled.
+ *
+ * @since 1.0.0
+ */
+public final class RenderProfiler {
+  private static final @Nullable ThreadMXBean THREAD_MX_BEAN;
+  private final Map<String, ProfileEntry> placeholders = new ConcurrentHashMap<>();
+  private final Map<String, ProfileEntry> sections = new ConcurrentHashMap<>();
+  private volatile boolean enabled;
+  private volatile int sampleRate;
+
+  static {
+    final var threadMXBean = ManagementFactory.getThreadMXBean();
+    // Allocations can only be measured if the JVM supports it.
+    THREAD_MX_BEAN = (threadMXBean instanceof final ThreadMXBean sunThreadMXBean)
+      && sunThreadMXBean.isThreadAllocatedMemorySupported() && sunThreadMXBean.isThreadAllocatedMemoryEnabled()
+      ? sunThreadMXBean
+      : null;
+  }
+
+  public RenderProfiler(final SettingsConfigModel config) {
+    this.configModel(config);
+  }
+
+  public void configModel(final SettingsConfigModel updatedConfigModel) {
+    this.enabled = updatedConfigModel.enableProfiler;
+    this.sampleRate = Math.max(1, updatedConfigModel.profilerSampleRate);
+  }
+
+  public boolean enabled() {
+    return this.enabled;
+  }
+
+  /**
+   * Starts a new sample for the current operation, if the profiler is enabled, and the operation is selected
+   * to be sampled.
+   *
+   * @return The started {@link ProfileSample}, or {@code null} if the operation isn't sampled.
+   * @since 1.0.0
+   */
+  public @Nullable ProfileSample start() {
+    if (!this.enabled || (ThreadLocalRandom.current().nextInt(this.sampleRate) != 0)) {
+      return null;
+    }
+    final var allocatedBytes = (THREAD_MX_BEAN == null) ? -1 : THREAD_MX_BEAN.getCurrentThreadAllocatedBytes();
+    return new ProfileSample(System.nanoTime(), allocatedBytes);
+  }
+
+  /**
+   * Records a call for the given placeholder's resolution.
+   *
+   * @param placeholder the resolved placeholder.
+   * @param sample the call's sample, or {@code null} if it wasn't sampled.
+   * @since 1.0.0
+   */
+  public void recordPlaceholder(final String placeholder, final @Nullable ProfileSample sample) {
+    this.record(this.placeholders, placeholder, sample);
+  }
+
+  /**
+   * Records a call for the given section's rendering.
+   *
+   * @param section the rendered section's name.
+   * @param sample the call's sample, or {@code null} if it wasn't sampled.
+   * @since 1.0.0
+   */
+  public void recordSection(final String section, final @Nullable ProfileSample sample) {
+    this.record(this.sections, section, sample);
+  }
+
+  private void record(final Map<String, ProfileEntry> entries, final String name, final @Nullable ProfileSample sample) {
+    if (!this.enabled) return;
+    final var entry = entries.computeIfAbsent(name, ProfileEntry::new);
+    entry.call();
+    if (sample == null) return;
+    final var nanos = System.nanoTime() - sample.startNanos();
+    final var allocatedBytes = (sample.startAllocatedBytes() == -1)
+      ? -1
+      : THREAD_MX_BEAN.getCurrentThreadAllocatedBytes() - sample.startAllocatedBytes();
+    entry.sample(nanos, allocatedBytes);
+  }
+
+  /**
+   * Removes all the aggregated entries.
+   *
+   * @since 1.0.0
+   */
+  public void reset() {
+    this.placeholders.clear();
+    this.sections.clear();
+  }
+
+  /**
+   * Creates the report for the aggregated entries, sorted by their estimated total time.
+   *
+   * @param limit the maximum entries-amount for each category.
+   * @return The report's lines.
+   * @since 1.0.0
+   */
+  public List<String> report(final int limit) {
+    final var lines = new ArrayList<String>();
+    lines.add("Placeholders:");
+    this.appendEntries(lines, this.placeholders.values(), limit);
+    lines.add("Sections:");
+    this.appendEntries(lines, this.sections.values(), limit);
+    return lines;
+  }
+
+  /**
+   * Writes the report for all the aggregated entries into the given file.
+   *
+   * @param file the file to write.
+   * @throws IOException if the file couldn't be written.
+   * @since 1.0.0
+   */
+  public void dump(final Path file) throws IOException {
+    Files.createDirectories(file.getParent());
+    Files.write(file, this.report(Integer.MAX_VALUE));
+  }
+
+  private void appendEntries(final List<String> lines, final Collection<ProfileEntry> entries, final int limit) {
+    entries.stream()
+      .sorted(Comparator.comparingLong(ProfileEntry::estimatedTotalNanos).reversed())
+      .limit(limit)
+      .forEach(entry -> lines.add(String.format(Locale.ROOT,
+        "- %s | calls: %d, sampled: %d, p50: %.3fms, p99: %.3fms, total: %.3fms, alloc: %dB/call",
+        entry.name(), entry.calls(), entry.samples(), entry.percentileNanos(0.5) / 1_000_000.0,
+        entry.percentileNanos(0.99) / 1_000_000.0, entry.estimatedTotalNanos() / 1_000_000.0,
+        entry.averageAllocatedBytes())));
+  }
+}
@@ -0,0 +1,128 @@
+// This file is part of packet-board, licensed under the GNU License.
+//
+// Copyright (c) 2024 aivruu
+//
+// This program is free software: you can redistribute it and/or modify
+// it under the terms of the GNU General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// This program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU General Public License
+// along with this program. If not, see <https://www.gnu.org/licenses/>.
+package io.github.aivruu.packetboard.section;
+
+import io.github.aivruu.packetboard.config.object.SettingsConfigModel;
+import org.bukkit.Location;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This class is used as spatial-index for the configured cuboid-regions. Each region is registered into the
+ * chunks that it overlaps, so a lookup only checks the regions of the location's chunk, following their priority.
+ * Regions that overlap too many chunks are kept apart, and checked after the chunk's regions.
+ *
+ * @since 1.0.0
+ */
+final class RegionIndex {
+  /** The maximum chunks-amount that a region could overlap to be registered into its chunks. */
+  private static final long MAX_INDEXED_CHUNKS = 4096;
+  private final Map<String, WorldRegions> worldRegions;
+
+  private RegionIndex(final Map<String, WorldRegions> worldRegions) {
+    this.worldRegions = worldRegions;
+  }
+
+  static RegionIndex compile(final SettingsConfigModel.BoardRegionSection[] regionSections) {
+    final var regions = new ArrayList<Region>(regionSections.length);
+    for (int i = 0; i < regionSections.length; i++) {
+      final var regionSection = regionSections[i];
+      regions.add(new Region(i, regionSection.priority,
+        Math.min(regionSection.minX, regionSection.maxX), Math.min(regionSection.minY, regionSection.maxY),
+        Math.min(regionSection.minZ, regionSection.maxZ), Math.max(regionSection.minX, regionSection.maxX),
+        Math.max(regionSection.minY, regionSection.maxY), Math.max(regionSection.minZ, regionSection.maxZ)));
+    }
+    // The sort is stable, so regions with the same priority keep the configuration's order.
+    regions.sort(Comparator.comparingInt(Region::priority).reversed());
+    final var worldChunks = new HashMap<String, Map<Long, List<Region>>>();
+    final var worldLargeRegions = new HashMap<String, List<Region>>();
+    for (final var region : regions) {
+      final var world = regionSections[region.section()].world;
+      final var chunks = worldChunks.computeIfAbsent(world, key -> new HashMap<>());
+      // Huge regions, like world-wide fallbacks, would need millions of chunk-entries.
+      if (region.chunks() > MAX_INDEXED_CHUNKS) {
+        worldLargeRegions.computeIfAbsent(world, key -> new ArrayList<>()).add(region);
+        continue;
+      }
+      for (int chunkX = region.minX() >> 4; chunkX <= (region.maxX() >> 4); chunkX++) {
+        for (int chunkZ = region.minZ() >> 4; chunkZ <= (region.maxZ() >> 4); chunkZ++) {
+          chunks.computeIfAbsent(chunkKey(chunkX, chunkZ), key -> new ArrayList<>()).add(region);
+        }
+      }
+    }
+    final var compiledWorldRegions = new HashMap<String, WorldRegions>();
+    for (final var worldEntry : worldChunks.entrySet()) {
+      final var chunks = new HashMap<Long, Region[]>();
+      for (final var chunkEntry : worldEntry.getValue().entrySet()) {
+        chunks.put(chunkEntry.getKey(), chunkEntry.getValue().toArray(Region[]::new));
+      }
+      final var largeRegions = worldLargeRegions.getOrDefault(worldEntry.getKey(), List.of());
+      compiledWorldRegions.put(worldEntry.getKey(),
+        new WorldRegions(Map.copyOf(chunks), largeRegions.toArray(Region[]::new)));
+    }
+    return new RegionIndex(Map.copyOf(compiledWorldRegions));
+  }
+
+  int match(final Location location) {
+    final var worldRegions = this.worldRegions.get(location.getWorld().getName());
+    if (worldRegions == null) return SectionSelector.NO_SECTION;
+    final var x = location.getBlockX();
+    final var y = location.getBlockY();
+    final var z = location.getBlockZ();
+    final var chunkRegion = first(worldRegions.chunks().get(chunkKey(x >> 4, z >> 4)), x, y, z);
+    final var largeRegion = first(worldRegions.largeRegions(), x, y, z);
+    if (chunkRegion == null) {
+      return (largeRegion == null) ? SectionSelector.NO_SECTION : largeRegion.section();
+    }
+    // Both lists follow the same order, the highest priority first, and then the configuration's order.
+    if ((largeRegion != null) && ((largeRegion.priority() > chunkRegion.priority())
+      || ((largeRegion.priority() == chunkRegion.priority()) && (largeRegion.section() < chunkRegion.section())))) {
+      return largeRegion.section();
+    }
+    return chunkRegion.section();
+  }
+
+  private static @Nullable Region first(final @Nullable Region[] regions, final int x, final int y, final int z) {
+    if (regions == null) return null;
+    for (final var region : regions) {
+      if (region.contains(x, y, z)) return region;
+    }
+    return null;
+  }
+
+  private static long chunkKey(final int chunkX, final int chunkZ) {
+    return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+  }
+
+  private record WorldRegions(Map<Long, Region[]> chunks, Region[] largeRegions) {}
+
+  private record Region(int section, int priority, int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {
+    boolean contains(final int x, final int y, final int z) {
+      return (x >= this.minX) && (x <= this.maxX) && (y >= this.minY) && (y <= this.maxY)
+        && (z >= this.minZ) && (z <= this.maxZ);
+    }
+
+    long chunks() {
+      return (((long) (this.maxX >> 4) - (this.minX >> 4)) + 1) * (((long) (this.maxZ >> 4) - (this.minZ >> 4)) + 1);
+    }
+  }
+}
@@ -0,0 +1,119 @@
+// This file is part of packet-board, licensed under the GNU License.
+//
+// Copyright (c) 2024 aivruu
+//
+// This program is free software: you can redistribute it and/or modify
+// it under the terms of the GNU General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// This program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU General Public License
+// along with this program. If not, see <https://www.gnu.org/licenses/>.
+package io.github.aivruu.packetboard.section;
+
+import io.github.aivruu.packetboard.config.object.SettingsConfigModel;
+import io.github.aivruu.packetboard.util.LuckPermsUtil;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * This class is used to match a player against the configured board-rules. The rules are sorted by priority
+ * and compiled into bitsets indexed by world and group, so a match costs two map-lookups and a bitset
+ * intersection, and only the permissions of the remaining candidates are checked, following their priority.
+ *
+ * @since 1.0.0
+ */
+final class RuleMatcher {
+  private final int[] ruleSections;
+  private final String[][] rulePermissions;
+  private final BitSet anyWorldRules;
+  private final Map<String, BitSet> worldRules;
+  private final BitSet anyGroupRules;
+  private final Map<String, BitSet> groupRules;
+
+  private RuleMatcher(final int[] ruleSections, final String[][] rulePermissions, final BitSet anyWorldRules,
+                      final Map<String, BitSet> worldRules, final BitSet anyGroupRules,
+                      final Map<String, BitSet> groupRules) {
+    this.ruleSections = ruleSections;
+    this.rulePermissions = rulePermissions;
+    this.anyWorldRules = anyWorldRules;
+    this.worldRules = worldRules;
+    this.anyGroupRules = anyGroupRules;
+    this.groupRules = groupRules;
+  }
+
+  static RuleMatcher compile(final SettingsConfigModel.BoardRuleSection[] rules) {
+    // The sort is stable, so rules with the same priority keep the configuration's order.
+    final var sortedRules = new ArrayList<Integer>(rules.length);
+    for (int i = 0; i < rules.length; i++) {
+      sortedRules.add(i);
+    }
+    sortedRules.sort(Comparator.comparingInt((Integer index) -> rules[index].priority).reversed());
+    final var ruleSections = new int[rules.length];
+    final var rulePermissions = new String[rules.length][];
+    final var anyWorldRules = new BitSet(rules.length);
+    final var worldRules = new HashMap<String, BitSet>();
+    final var anyGroupRules = new BitSet(rules.length);
+    final var groupRules = new HashMap<String, BitSet>();
+    for (int i = 0; i < rules.length; i++) {
+      final var rule = rules[sortedRules.get(i)];
+      ruleSections[i] = sortedRules.get(i);
+      rulePermissions[i] = rule.permissions;
+      // Rules without worlds, or groups match any of them.
+      if (rule.worlds.length == 0) {
+        anyWorldRules.set(i);
+      }
+      for (final var world : rule.worlds) {
+        worldRules.computeIfAbsent(world, key -> new BitSet(rules.length)).set(i);
+      }
+      if (rule.groups.length == 0) {
+        anyGroupRules.set(i);
+      }
+      for (final var group : rule.groups) {
+        groupRules.computeIfAbsent(group, key -> new BitSet(rules.length)).set(i);
+      }
+    }
+    // Each world, and group bitset includes the rules that match any of them, so a single lookup is needed.
+    for (final var rulesBitSet : worldRules.values()) {
+      rulesBitSet.or(anyWorldRules);
+    }
+    for (final var rulesBitSet : groupRules.values()) {
+      rulesBitSet.or(anyGroupRules);
+    }
+    return new RuleMatcher(ruleSections, rulePermissions, anyWorldRules, Map.copyOf(worldRules), anyGroupRules,
+      Map.copyOf(groupRules));
+  }
+
+  int match(final Player player) {
+    final var candidates = (BitSet) this.worldRules.getOrDefault(player.getWorld().getName(), this.anyWorldRules).clone();
+    // The player's group is only needed if there are rules that depend on it.
+    if (!this.groupRules.isEmpty()) {
+      final var playerGroup = LuckPermsUtil.primaryGroup(player.getUniqueId());
+      candidates.and((playerGroup == null) ? this.anyGroupRules
+        : this.groupRules.getOrDefault(playerGroup, this.anyGroupRules));
+    }
+    for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+      if (hasPermissions(player, this.rulePermissions[i])) {
+        return this.ruleSections[i];
+      }
+    }
+    return SectionSelector.NO_SECTION;
+  }
+
+  private static boolean hasPermissions(final Player player, final String[] permissions) {
+    for (final var permission : permissions) {
+      if (!player.hasPermission(permission)) return false;
+    }
+    return true;
+  }
+}
@@ -0,0 +1,170 @@
+// This file is part of packet-board, licensed under the GNU License.
+//
+// Copyright (c) 2024 aivruu
+//
+// This program is free software: you can redistribute it and/or modify
+// it under the terms of the GNU General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// This program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU General Public License
+// along with this program. If not, see <https://www.gnu.org/licenses/>.
+package io.github.aivruu.packetboard.section;
+
+import io.github.aivruu.packetboard.board.RuntimeScoreboardMode;
+import io.github.aivruu.packetboard.config.object.SettingsConfigModel;
+import io.github.aivruu.packetboard.util.LuckPermsUtil;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * This class is used to select the configuration's section that must be shown to a player depending on the
+ * current scoreboard-mode. The sections are compiled into lookup-tables when the configuration is loaded, so
+ * each player is resolved to a single section without iterating all the configured sections, and the selected
+ * section is cached until {@link #reselect(Player)} is called due to a relevant change.
+ *
+ * @since 1.0.0
+ */
+public final class SectionSelector {
+  /**
+   * The index returned when there isn't any section for the player.
+   *
+   * @since 1.0.0
+   */
+  public static final int NO_SECTION = -1;
+  /** The selection kept for the players after a reload, until their section is resolved again. */
+  private static final int STALE_SECTION = -2;
+  private final Map<String, Integer> selections = new ConcurrentHashMap<>();
+  private RuntimeScoreboardMode mode;
+  private Map<String, Integer> worldSections;
+  private String[] permissionNodes;
+  private int[] permissionSections;
+  private Map<String, Integer> groupSections;
+  private RuleMatcher ruleMatcher;
+  private RegionIndex regionIndex;
+
+  public SectionSelector(final SettingsConfigModel config) {
+    this.configModel(config);
+  }
+
+  public void configModel(final SettingsConfigModel updatedConfigModel) {
+    // The first section defined for a world, or group is the one that is used.
+    final var worldSections = new HashMap<String, Integer>();
+    for (int i = 0; i < updatedConfigModel.scoreboardWorld.length; i++) {
+      worldSections.putIfAbsent(updatedConfigModel.scoreboardWorld[i].designedWorld, i);
+    }
+    // Permissions are checked following their priority, the sort is stable so ties keep the configuration's order.
+    final var permissionSections = new ArrayList<Integer>(updatedConfigModel.scoreboardPermission.length);
+    for (int i = 0; i < updatedConfigModel.scoreboardPermission.length; i++) {
+      permissionSections.add(i);
+    }
+    permissionSections.sort(Comparator.comparingInt(
+      (Integer index) -> updatedConfigModel.scoreboardPermission[index].priority).reversed());
+    final var permissionNodes = new String[permissionSections.size()];
+    for (int i = 0; i < permissionNodes.length; i++) {
+      permissionNodes[i] = updatedConfigModel.scoreboardPermission[permissionSections.get(i)].node;
+    }
+    final var groupSections = new HashMap<String, Integer>();
+    for (int i = 0; i < updatedConfigModel.scoreboardGroup.length; i++) {
+      groupSections.putIfAbsent(updatedConfigModel.scoreboardGroup[i].designedGroup, i);
+    }
+    this.worldSections = Map.copyOf(worldSections);
+    this.permissionNodes = permissionNodes;
+    this.permissionSections = permissionSections.stream().mapToInt(Integer::intValue).toArray();
+    this.groupSections = Map.copyOf(groupSections);
+    this.ruleMatcher = RuleMatcher.compile(updatedConfigModel.scoreboardRules);
+    this.regionIndex = RegionIndex.compile(updatedConfigModel.scoreboardRegions);
+    this.mode = updatedConfigModel.mode;
+    // The 'GLOBAL' mode is never reselected, its only section is resolved again on the next select.
+    if (this.mode == RuntimeScoreboardMode.GLOBAL) {
+      this.selections.clear();
+      return;
+    }
+    // Selections could point to sections that don't exist anymore, they're kept as stale, so the next reselect
+    // considers them as changed, and the players' scoreboards are switched to the new sections.
+    this.selections.replaceAll((playerId, section) -> STALE_SECTION);
+  }
+
+  /**
+   * Returns the selected section for the player, the section is only resolved if it isn't cached yet.
+   *
+   * @param player the player to select the section for.
+   * @return The section's index into the mode's sections, {@code 0} for the 'GLOBAL' mode, or
+   *     {@link #NO_SECTION} if there isn't any section for the player, or the player's selection is stale since
+   *     the last reload and it wasn't reselected yet.
+   * @since 1.0.0
+   */
+  public int select(final Player player) {
+    final int section = this.selections.computeIfAbsent(player.getUniqueId().toString(),
+      playerId -> this.resolve(player, null));
+    // The player's scoreboard still belongs to the previous configuration, so its lines aren't rendered.
+    return (section == STALE_SECTION) ? NO_SECTION : section;
+  }
+
+  /**
+   * Resolves the section for the player again, used when the player's world, permissions or groups have changed.
+   *
+   * @param player the player to select the section for.
+   * @return Whether the player's section has changed.
+   * @since 1.0.0
+   */
+  public boolean reselect(final Player player) {
+    return this.reselect(player, null);
+  }
+
+  /**
+   * Resolves the section for the player again with the given location, used when the player is moving to
+   * another block, so the player's location isn't updated yet.
+   *
+   * @param player the player to select the section for.
+   * @param location the player's new location, or {@code null} to use the player's current location.
+   * @return Whether the player's section has changed, stale selections are always considered as changed.
+   * @since 1.0.0
+   */
+  public boolean reselect(final Player player, final @Nullable Location location) {
+    final var section = this.resolve(player, location);
+    final var previousSection = this.selections.put(player.getUniqueId().toString(), section);
+    return (previousSection != null) && (previousSection != section);
+  }
+
+  /**
+   * Removes the cached section for the player with the given id.
+   *
+   * @param playerId the player's unique id.
+   * @since 1.0.0
+   */
+  public void invalidate(final String playerId) {
+    this.selections.remove(playerId);
+  }
+
+  private int resolve(final Player player, final @Nullable Location location) {
+    return switch (this.mode) {
+      case GLOBAL -> 0;
+      case WORLD -> this.worldSections.getOrDefault(player.getWorld().getName(), NO_SECTION);
+      case PERMISSION -> {
+        for (int i = 0; i < this.permissionNodes.length; i++) {
+          if (player.hasPermission(this.permissionNodes[i])) yield this.permissionSections[i];
+        }
+        yield NO_SECTION;
+      }
+      case GROUP -> {
+        final var playerGroup = LuckPermsUtil.primaryGroup(player.getUniqueId());
+        yield (playerGroup == null) ? NO_SECTION : this.groupSections.getOrDefault(playerGroup, NO_SECTION);
+      }
+      case RULES -> this.ruleMatcher.match(player);
+      case REGION -> this.regionIndex.match((location == null) ? player.getLocation() : location);
+    };
+  }
+}
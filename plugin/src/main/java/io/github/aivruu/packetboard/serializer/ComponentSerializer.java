@@ -16,6 +16,8 @@
 // along with this program. If not, see <https://www.gnu.org/licenses/>.
 package io.github.aivruu.packetboard.serializer;
 
+import io.github.aivruu.packetboard.cache.ComponentInterner;
+import io.github.aivruu.packetboard.placeholder.NativePlaceholders;
 import io.github.aivruu.packetboard.util.ComponentParserUtils;
 import net.kyori.adventure.text.Component;
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -32,7 +34,10 @@ public enum ComponentSerializer implements TypeSerializer<Component> {
 
   @Override
   public Component deserialize(final Type type, final ConfigurationNode target) {
-    return (target.getString() == null) ? EMPTY_COMPONENT : ComponentParserUtils.apply(target.getString());
+    // Built-in placeholders' tags are kept as placeholder-slots, they're resolved later for each player.
+    return (target.getString() == null)
+      ? EMPTY_COMPONENT
+      : ComponentInterner.intern(ComponentParserUtils.apply(target.getString(), NativePlaceholders.tagResolver()));
   }
 
   @Override
@@ -0,0 +1,191 @@
+// This file is part of packet-board, licensed under the GNU License.
+//
+// Copyright (c) 2024 aivruu
+//
+// This program is free software: you can redistribute it and/or modify
+// it under the terms of the GNU General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// This program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU General Public License
+// along with this program. If not, see <https://www.gnu.org/licenses/>.
+package io.github.aivruu.packetboard.task;
+
+import io.github.aivruu.packetboard.animation.FrameAnimation;
+import io.github.aivruu.packetboard.animation.GlobalLineAnimations;
+import io.github.aivruu.packetboard.animation.LineFrameAnimation;
+import io.github.aivruu.packetboard.board.CachedBoardModel;
+import io.github.aivruu.packetboard.board.RuntimeScoreboardMode;
+import io.github.aivruu.packetboard.config.object.SettingsConfigModel;
+import io.github.aivruu.packetboard.placeholder.CompiledTemplate;
+import io.github.aivruu.packetboard.placeholder.PlaceholderBatch;
+import io.github.aivruu.packetboard.placeholder.PlaceholderResolver;
+import io.github.aivruu.packetboard.placeholder.PlaceholderResultCache;
+import io.github.aivruu.packetboard.placeholder.PlaceholderSnapshot;
+import io.github.aivruu.packetboard.repository.RepositoryModel;
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+public class AnimationPluginTask implements Consumer<ScheduledTask> {
+  /** The period in ticks used to resolve again the placeholders of the frames that contains them. */
+  private static final int DYNAMIC_FRAMES_REFRESH_TICKS = 20;
+  /** The period in ticks used to remove the frames-state of the boards that doesn't exist anymore. */
+  private static final int STATE_CLEANUP_PERIOD_TICKS = 1200;
+  private static final int TITLE_SLOT = 0;
+  private final Plugin plugin;
+  private final RepositoryModel<CachedBoardModel> boardRepository;
+  private final PlaceholderResultCache placeholderResultCache;
+  /** The frames shown to each board, cleared on reloads, and otherwise only modified by this task's thread. */
+  private final Map<String, FramesState> shownFrames = new ConcurrentHashMap<>();
+  /** The latest placeholders' values for each board, resolved from the player's owning thread. */
+  private final Map<String, PlaceholderSnapshot> snapshots = new ConcurrentHashMap<>();
+  /** The compiled animations, replaced as a whole on reloads, so each tick reads a consistent set. */
+  private volatile Animations animations;
+  private long tick = 0;
+
+  public AnimationPluginTask(final Plugin plugin, final RepositoryModel<CachedBoardModel> boardRepository,
+                             final PlaceholderResultCache placeholderResultCache, final SettingsConfigModel config) {
+    this.plugin = plugin;
+    this.boardRepository = boardRepository;
+    this.placeholderResultCache = placeholderResultCache;
+    this.configModel(config);
+  }
+
+  public void configModel(final SettingsConfigModel updatedConfigModel) {
+    // Animations are compiled only once here, so each tick only need to look-up for the current frames.
+    final var globalMode = updatedConfigModel.mode == RuntimeScoreboardMode.GLOBAL;
+    final var titleAnimation = (globalMode && updatedConfigModel.enableAnimatedTitleFeature)
+      ? FrameAnimation.compile(updatedConfigModel.animatedTitle)
+      : null;
+    final var lineAnimations = globalMode ? GlobalLineAnimations.compile(updatedConfigModel) : new LineFrameAnimation[0];
+    final var dynamicTemplates = new ArrayList<CompiledTemplate>();
+    if (titleAnimation != null) {
+      dynamicTemplates.addAll(titleAnimation.dynamicTemplates());
+    }
+    for (final var lineAnimation : lineAnimations) {
+      dynamicTemplates.addAll(lineAnimation.animation().dynamicTemplates());
+    }
+    this.animations = new Animations(titleAnimation, lineAnimations, PlaceholderBatch.of(dynamicTemplates));
+    // Frames must be sent again with the new animations.
+    this.shownFrames.clear();
+    this.snapshots.clear();
+  }
+
+  @Override
+  public void accept(final ScheduledTask task) {
+    final var currentTick = this.tick++;
+    final var refreshDynamicFrames = (currentTick % DYNAMIC_FRAMES_REFRESH_TICKS) == 0;
+    // Read only once, so a reload during this tick doesn't mix the previous and the new animations.
+    final var animations = this.animations;
+    final var titleAnimation = animations.titleAnimation();
+    final var lineAnimations = animations.lineAnimations();
+    for (final var cachedBoardModel : this.boardRepository.findAllSync()) {
+      final var id = cachedBoardModel.id();
+      if (!cachedBoardModel.visible()) {
+        // The board is created again once it's turned-on, so its frames must be sent again.
+        this.shownFrames.remove(id);
+        continue;
+      }
+      final var player = cachedBoardModel.player();
+      if (player == null) continue;
+      var framesState = this.shownFrames.get(id);
+      if ((framesState == null) || (framesState.animations != animations)) {
+        // The state was created for other animations, so it's sized and filled again for the current ones.
+        framesState = new FramesState(animations);
+        this.shownFrames.put(id, framesState);
+      }
+      final var shownFrames = framesState.frames;
+      if (refreshDynamicFrames && !animations.dynamicPlaceholders().empty()) {
+        // Placeholders must be resolved from the player's owning thread, frames are rendered with the latest values.
+        player.getScheduler().run(this.plugin, snapshotTask -> this.snapshot(player, id, animations), null);
+      }
+      final var snapshot = this.snapshots.get(id);
+      if (snapshot != framesState.appliedSnapshot) {
+        // A new snapshot was published, so the shown frames with placeholders are sent again with the new values.
+        framesState.appliedSnapshot = snapshot;
+        resetDynamicFrames(animations, shownFrames);
+      }
+      if (titleAnimation != null) {
+        final var frame = titleAnimation.frameAt(currentTick, id);
+        // Only send the frame if it has changed, frames with placeholders wait until their values are resolved.
+        if ((shownFrames[TITLE_SLOT] != frame) && ((snapshot != null) || !titleAnimation.dynamic(frame))) {
+          shownFrames[TITLE_SLOT] = frame;
+          cachedBoardModel.titleWithoutMutation(titleAnimation.render(resolver(snapshot), frame));
+        }
+      }
+      for (int i = 0; i < lineAnimations.length; i++) {
+        final var lineAnimation = lineAnimations[i];
+        if (lineAnimation.index() >= cachedBoardModel.template().size()) continue;
+        final var animation = lineAnimation.animation();
+        final var frame = animation.frameAt(currentTick, id);
+        if ((shownFrames[i + 1] != frame) && ((snapshot != null) || !animation.dynamic(frame))) {
+          shownFrames[i + 1] = frame;
+          cachedBoardModel.lineWithoutMutation(lineAnimation.index(), animation.render(resolver(snapshot), frame));
+        }
+      }
+    }
+    if ((currentTick % STATE_CLEANUP_PERIOD_TICKS) == 0) {
+      this.shownFrames.keySet().removeIf(id -> this.boardRepository.findSync(id) == null);
+      this.snapshots.keySet().removeIf(id -> this.boardRepository.findSync(id) == null);
+    }
+  }
+
+  private void snapshot(final Player player, final String id, final Animations animations) {
+    // Only the snapshot is published here, the frames-state is only modified by the animation's thread.
+    if (animations != this.animations) return;
+    this.snapshots.put(id, animations.dynamicPlaceholders().snapshot(this.placeholderResultCache.resolver(player)));
+  }
+
+  private static void resetDynamicFrames(final Animations animations, final int[] shownFrames) {
+    final var titleAnimation = animations.titleAnimation();
+    if ((titleAnimation != null) && (shownFrames[TITLE_SLOT] != -1) && titleAnimation.dynamic(shownFrames[TITLE_SLOT])) {
+      shownFrames[TITLE_SLOT] = -1;
+    }
+    final var lineAnimations = animations.lineAnimations();
+    for (int i = 0; i < lineAnimations.length; i++) {
+      final var frame = shownFrames[i + 1];
+      if ((frame != -1) && lineAnimations[i].animation().dynamic(frame)) {
+        shownFrames[i + 1] = -1;
+      }
+    }
+  }
+
+  private static PlaceholderResolver resolver(final @Nullable PlaceholderSnapshot snapshot) {
+    // Frames without placeholders are rendered without resolving anything.
+    return (snapshot == null) ? placeholder -> placeholder : snapshot;
+  }
+
+  /**
+   * The animations compiled from a configuration, and the placeholders needed to render their dynamic frames.
+   */
+  private record Animations(@Nullable FrameAnimation titleAnimation, LineFrameAnimation[] lineAnimations,
+                            PlaceholderBatch dynamicPlaceholders) {}
+
+  private static final class FramesState {
+    /** The animations this state was sized for. */
+    private final Animations animations;
+    /** The frame's index shown to the board, the first slot is for the title, and the rest for the animated-lines. */
+    private final int[] frames;
+    /** The snapshot used to render the shown frames, or {@code null} if there wasn't any yet. */
+    private @Nullable PlaceholderSnapshot appliedSnapshot;
+
+    private FramesState(final Animations animations) {
+      this.animations = animations;
+      this.frames = new int[animations.lineAnimations().length + 1];
+      Arrays.fill(this.frames, -1);
+    }
+  }
+}
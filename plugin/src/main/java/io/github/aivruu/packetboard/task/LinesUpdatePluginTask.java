@@ -16,72 +16,348 @@
 // along with this program. If not, see <https://www.gnu.org/licenses/>.
 package io.github.aivruu.packetboard.task;
 
+import io.github.aivruu.packetboard.activity.PlayerActivityTracker;
+import io.github.aivruu.packetboard.animation.GlobalLineAnimations;
 import io.github.aivruu.packetboard.board.CachedBoardModel;
+import io.github.aivruu.packetboard.board.RuntimeScoreboardMode;
 import io.github.aivruu.packetboard.config.object.SettingsConfigModel;
-import io.github.aivruu.packetboard.util.PlaceholderParsingUtils;
+import io.github.aivruu.packetboard.manager.BoardInvalidationHandler;
+import io.github.aivruu.packetboard.placeholder.CompiledTemplate;
+import io.github.aivruu.packetboard.placeholder.LineCondition;
+import io.github.aivruu.packetboard.placeholder.PlaceholderBatch;
+import io.github.aivruu.packetboard.placeholder.PlaceholderResolver;
+import io.github.aivruu.packetboard.placeholder.PlaceholderResultCache;
+import io.github.aivruu.packetboard.placeholder.PlaceholderScope;
+import io.github.aivruu.packetboard.placeholder.PlaceholderSnapshot;
+import io.github.aivruu.packetboard.profiler.RenderProfiler;
 import io.github.aivruu.packetboard.repository.RepositoryModel;
-import io.github.aivruu.packetboard.factory.ScoreboardFactory;
+import io.github.aivruu.packetboard.section.SectionSelector;
 import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
 import net.kyori.adventure.text.Component;
+import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
+import java.util.function.Function;
 
-public class LinesUpdatePluginTask implements Consumer<ScheduledTask> {
+public class LinesUpdatePluginTask implements Consumer<ScheduledTask>, BoardInvalidationHandler {
+  private static final BitSet NO_ANIMATED_LINES = new BitSet();
+  private final Plugin plugin;
   private final RepositoryModel<CachedBoardModel> boardRepository;
+  private final PlayerActivityTracker activityTracker;
+  private final PlaceholderResultCache placeholderResultCache;
+  private final RenderProfiler profiler;
+  private final SectionSelector sectionSelector;
+  private final Map<String, HiddenLines> hiddenLines = new ConcurrentHashMap<>();
   private SettingsConfigModel config;
-  private byte index = 0;
+  private SectionLines globalLines;
+  private SectionLines[] worldLines;
+  private SectionLines[] permissionLines;
+  private SectionLines[] groupLines;
+  private SectionLines[] ruleLines;
+  private SectionLines[] regionLines;
 
-  public LinesUpdatePluginTask(final RepositoryModel<CachedBoardModel> boardRepository, final SettingsConfigModel config) {
+  public LinesUpdatePluginTask(final Plugin plugin, final RepositoryModel<CachedBoardModel> boardRepository,
+                               final PlayerActivityTracker activityTracker, final PlaceholderResultCache placeholderResultCache,
+                               final RenderProfiler profiler, final SectionSelector sectionSelector,
+                               final SettingsConfigModel config) {
+    this.plugin = plugin;
     this.boardRepository = boardRepository;
-    this.config = config;
+    this.activityTracker = activityTracker;
+    this.placeholderResultCache = placeholderResultCache;
+    this.profiler = profiler;
+    this.sectionSelector = sectionSelector;
+    this.configModel(config);
   }
 
   public void configModel(final SettingsConfigModel updatedConfigModel) {
     this.config = updatedConfigModel;
+    // Lines are compiled only once here, following the same order of the configuration's sections, and
+    // classified by their audience depending on the placeholders' cache-scopes.
+    final Function<String, PlaceholderScope> placeholderScopes = this.placeholderResultCache::scope;
+    final var eventDrivenPlaceholders = Set.of(updatedConfigModel.eventDrivenPlaceholders);
+    // Animated-lines are handled by the animation-task, so they must not be overwritten here.
+    this.globalLines = SectionLines.compile("global", updatedConfigModel.globalLines,
+      updatedConfigModel.globalLineConditions, GlobalLineAnimations.indexes(updatedConfigModel), placeholderScopes,
+      eventDrivenPlaceholders);
+    this.worldLines = new SectionLines[updatedConfigModel.scoreboardWorld.length];
+    for (int i = 0; i < this.worldLines.length; i++) {
+      final var worldSection = updatedConfigModel.scoreboardWorld[i];
+      this.worldLines[i] = SectionLines.compile("world:" + worldSection.designedWorld, worldSection.lines,
+        worldSection.conditions, NO_ANIMATED_LINES, placeholderScopes, eventDrivenPlaceholders);
+    }
+    this.permissionLines = new SectionLines[updatedConfigModel.scoreboardPermission.length];
+    for (int i = 0; i < this.permissionLines.length; i++) {
+      final var permissionSection = updatedConfigModel.scoreboardPermission[i];
+      this.permissionLines[i] = SectionLines.compile("permission:" + permissionSection.node, permissionSection.lines,
+        permissionSection.conditions, NO_ANIMATED_LINES, placeholderScopes, eventDrivenPlaceholders);
+    }
+    this.groupLines = new SectionLines[updatedConfigModel.scoreboardGroup.length];
+    for (int i = 0; i < this.groupLines.length; i++) {
+      final var groupSection = updatedConfigModel.scoreboardGroup[i];
+      this.groupLines[i] = SectionLines.compile("group:" + groupSection.designedGroup, groupSection.lines,
+        groupSection.conditions, NO_ANIMATED_LINES, placeholderScopes, eventDrivenPlaceholders);
+    }
+    this.ruleLines = new SectionLines[updatedConfigModel.scoreboardRules.length];
+    for (int i = 0; i < this.ruleLines.length; i++) {
+      final var ruleSection = updatedConfigModel.scoreboardRules[i];
+      this.ruleLines[i] = SectionLines.compile("rule:" + i, ruleSection.lines, ruleSection.conditions, NO_ANIMATED_LINES,
+        placeholderScopes, eventDrivenPlaceholders);
+    }
+    this.regionLines = new SectionLines[updatedConfigModel.scoreboardRegions.length];
+    for (int i = 0; i < this.regionLines.length; i++) {
+      final var regionSection = updatedConfigModel.scoreboardRegions[i];
+      this.regionLines[i] = SectionLines.compile("region:" + i, regionSection.lines, regionSection.conditions,
+        NO_ANIMATED_LINES, placeholderScopes, eventDrivenPlaceholders);
+    }
   }
 
   @Override
   public void accept(final ScheduledTask task) {
+    final var config = this.config;
+    if ((config.mode == RuntimeScoreboardMode.GLOBAL) && !this.globalLines.periodic()) return;
+    // Hidden-lines of the scoreboards that don't exist anymore are discarded.
+    this.hiddenLines.values().removeIf(hiddenLines -> this.boardRepository.findSync(hiddenLines.boardId()) == null);
+    // Audience-invariant lines are rendered only once during this refresh, and shared by all their viewers.
+    final var sharedLines = new ConcurrentHashMap<SharedLineKey, Component>();
     for (final var cachedBoardModel : this.boardRepository.findAllSync()) {
-      if (!cachedBoardModel.visible()) continue;
-      // Internal lines processing depending on selected scoreboard-mode.
-      this.processIteratedBoard(this.config, cachedBoardModel);
+      // Idle players are refreshed at a slower rate, so we skip them until their rate has elapsed.
+      if (!cachedBoardModel.visible() || !this.activityTracker.shouldRefresh(cachedBoardModel.id())) continue;
+      final var player = cachedBoardModel.player();
+      if (player == null) continue;
+      // Placeholders must be resolved from the player's owning thread, the rendering is done after it asynchronously.
+      player.getScheduler().run(this.plugin, snapshotTask ->
+        this.snapshotIteratedBoard(config, player, cachedBoardModel, sharedLines), null);
+    }
+  }
+
+  @Override
+  public void invalidate(final Player player, final String placeholder) {
+    final var config = this.config;
+    // The placeholder's cached values are outdated, so they must be resolved again.
+    this.placeholderResultCache.invalidate(player, placeholder);
+    if (Bukkit.isOwnedByCurrentRegion(player)) {
+      this.snapshotInvalidatedBoard(config, player, placeholder);
+    } else {
+      player.getScheduler().run(this.plugin, snapshotTask -> this.snapshotInvalidatedBoard(config, player, placeholder), null);
     }
   }
 
-  private void validateIndexValue(final int limit) {
-    this.index = (this.index++ >= (limit - 1)) ? 0 : this.index;
+  /**
+   * Renders all the lines of the player's scoreboard, and evaluates their conditions immediately, used once the
+   * scoreboard is created or switched, so conditional-lines aren't shown until the next periodic refresh.
+   *
+   * @param player the player that owns the scoreboard.
+   * @since 1.0.0
+   */
+  public void refresh(final Player player) {
+    final var config = this.config;
+    if (Bukkit.isOwnedByCurrentRegion(player)) {
+      this.snapshotShownBoard(config, player);
+    } else {
+      player.getScheduler().run(this.plugin, snapshotTask -> this.snapshotShownBoard(config, player), null);
+    }
+  }
+
+  private void snapshotShownBoard(final SettingsConfigModel config, final Player player) {
+    final var cachedBoardModel = this.boardRepository.findSync(player.getUniqueId().toString());
+    if ((cachedBoardModel == null) || !cachedBoardModel.visible()) return;
+    final var sectionLines = this.section(config, player);
+    if ((sectionLines == null) || !sectionLines.periodic()) return;
+    final var resolver = this.placeholderResultCache.resolver(player);
+    this.renderLater(cachedBoardModel, new SectionRefresh(sectionLines, sectionLines.polled(),
+      sectionLines.placeholders().snapshot(resolver), true), player.getWorld().getName(), new HashMap<>());
+  }
+
+  private void snapshotIteratedBoard(final SettingsConfigModel config, final Player player,
+                                     final CachedBoardModel cachedBoardModel, final Map<SharedLineKey, Component> sharedLines) {
+    final var sectionLines = this.section(config, player);
+    // Event-driven lines are only rendered again when their placeholders are invalidated.
+    if ((sectionLines == null) || !sectionLines.periodic()) return;
+    final var resolver = this.placeholderResultCache.resolver(player);
+    this.renderLater(cachedBoardModel, new SectionRefresh(sectionLines, sectionLines.polled(),
+      sectionLines.placeholders().snapshot(resolver), true), player.getWorld().getName(), sharedLines);
+  }
+
+  private void snapshotInvalidatedBoard(final SettingsConfigModel config, final Player player, final String placeholder) {
+    final var cachedBoardModel = this.boardRepository.findSync(player.getUniqueId().toString());
+    if ((cachedBoardModel == null) || !cachedBoardModel.visible()) return;
+    final var sectionLines = this.section(config, player);
+    if (sectionLines == null) return;
+    // Only the lines that depend on the invalidated placeholder are rendered again.
+    final var dependentLines = sectionLines.dependents().get(placeholder);
+    if (dependentLines == null) return;
+    final var resolver = this.placeholderResultCache.resolver(player);
+    this.renderLater(cachedBoardModel, new SectionRefresh(sectionLines, dependentLines.lines(),
+      dependentLines.placeholders().snapshot(resolver), false), player.getWorld().getName(), new HashMap<>());
+  }
+
+  private @Nullable SectionLines section(final SettingsConfigModel config, final Player player) {
+    // Internal section selection depending on selected scoreboard-mode.
+    final var section = this.sectionSelector.select(player);
+    if (section == SectionSelector.NO_SECTION) return null;
+    final var sections = switch (config.mode) {
+      case GLOBAL -> null;
+      case WORLD -> this.worldLines;
+      case PERMISSION -> this.permissionLines;
+      case GROUP -> this.groupLines;
+      case RULES -> this.ruleLines;
+      case REGION -> this.regionLines;
+    };
+    if (sections == null) return this.globalLines;
+    // The selector could be updated by a reload before this task.
+    return (section < sections.length) ? sections[section] : null;
   }
 
-  private void processIteratedBoard(final SettingsConfigModel config, final CachedBoardModel cachedBoardModel) {
-    final var player = cachedBoardModel.player();
-    switch (config.mode) {
-      case GLOBAL -> cachedBoardModel.lineWithoutMutation(this.index, this.process(player, config.globalLines));
-      case WORLD -> {
-        for (final var worldSection : config.scoreboardWorld) {
-          if (!player.getWorld().getName().equals(worldSection.designedWorld)) continue;
-          cachedBoardModel.lineWithoutMutation(this.index, this.process(player, worldSection.lines));
+  private void renderLater(final CachedBoardModel cachedBoardModel, final SectionRefresh refresh,
+                           final String worldName, final Map<SharedLineKey, Component> sharedLines) {
+    this.plugin.getServer().getAsyncScheduler().runNow(this.plugin, renderTask ->
+      this.process(cachedBoardModel, refresh, worldName, sharedLines));
+  }
+
+  private void process(final CachedBoardModel cachedBoardModel, final SectionRefresh refresh, final String worldName,
+                       final Map<SharedLineKey, Component> sharedLines) {
+    final var sample = this.profiler.start();
+    final var sectionLines = refresh.sectionLines();
+    final var lineTemplates = sectionLines.templates();
+    final var lines = refresh.lines();
+    if (sectionLines.conditionalLines().length == 0) {
+      for (int i = lines.nextSetBit(0); i >= 0; i = lines.nextSetBit(i + 1)) {
+        cachedBoardModel.lineWithoutMutation(i, this.render(lineTemplates[i], refresh.snapshot(), worldName, sharedLines));
+      }
+    } else {
+      // Hidden-lines are tracked by objective, as prepared scoreboards keep their lines while they aren't displayed.
+      final var hiddenLines = this.hiddenLines.compute(cachedBoardModel.objectiveId(), (objectiveId, current) ->
+        ((current == null) || (current.sectionLines() != sectionLines))
+          ? new HiddenLines(cachedBoardModel.id(), sectionLines, new BitSet())
+          : current);
+      // Refreshes of the same scoreboard could be processed at the same time by different threads.
+      synchronized (hiddenLines) {
+        final var hidden = hiddenLines.lines();
+        if (refresh.evaluateConditions()) {
+          for (final var conditionalLine : sectionLines.conditionalLines()) {
+            final var line = conditionalLine.line();
+            final var visible = conditionalLine.condition().test(refresh.snapshot());
+            // Packets are only sent when the line's visibility changes.
+            if (visible == !hidden.get(line)) continue;
+            if (visible) {
+              hidden.clear(line);
+              cachedBoardModel.lineWithoutMutation(line,
+                this.render(lineTemplates[line], refresh.snapshot(), worldName, sharedLines));
+            } else {
+              hidden.set(line);
+              cachedBoardModel.hideLineWithoutMutation(line);
+            }
+          }
+        }
+        for (int i = lines.nextSetBit(0); i >= 0; i = lines.nextSetBit(i + 1)) {
+          if (hidden.get(i)) continue;
+          cachedBoardModel.lineWithoutMutation(i, this.render(lineTemplates[i], refresh.snapshot(), worldName, sharedLines));
         }
       }
-      case PERMISSION -> {
-        for (final var permissionSection : config.scoreboardPermission) {
-          if (!player.hasPermission(permissionSection.node)) continue;
-          cachedBoardModel.lineWithoutMutation(this.index, this.process(player, permissionSection.lines));
+    }
+    this.profiler.recordSection(sectionLines.name(), sample);
+  }
+
+  private Component render(final CompiledTemplate lineTemplate, final PlaceholderResolver resolver, final String worldName,
+                           final Map<SharedLineKey, Component> sharedLines) {
+    return switch (lineTemplate.audience()) {
+      case GLOBAL -> sharedLines.computeIfAbsent(new SharedLineKey(lineTemplate, null), key -> lineTemplate.render(resolver));
+      case WORLD -> sharedLines.computeIfAbsent(new SharedLineKey(lineTemplate, worldName), key -> lineTemplate.render(resolver));
+      case PLAYER -> lineTemplate.render(resolver);
+    };
+  }
+
+  /**
+   * Identifies a rendered line shared by its audience, the world is only used for world-invariant lines.
+   */
+  private record SharedLineKey(CompiledTemplate lineTemplate, @Nullable String world) {}
+
+  /**
+   * The lines of a section that must be rendered with the given snapshot, and whether the lines' conditions
+   * must be evaluated with it.
+   */
+  private record SectionRefresh(SectionLines sectionLines, BitSet lines, PlaceholderSnapshot snapshot,
+                                boolean evaluateConditions) {}
+
+  /**
+   * The lines of a scoreboard's section that are currently hidden due to their conditions.
+   */
+  private record HiddenLines(String boardId, SectionLines sectionLines, BitSet lines) {}
+
+  /**
+   * A line that is shown only while its condition is met.
+   */
+  private record ConditionalLine(int line, LineCondition condition) {}
+
+  /**
+   * The lines that depend on a placeholder, with all the placeholders needed to render them.
+   */
+  private record DependentLines(BitSet lines, PlaceholderBatch placeholders) {}
+
+  /**
+   * The compiled lines of a section, with the lines that must be refreshed periodically and their placeholders,
+   * the lines that depend on each placeholder, and the conditional-lines.
+   */
+  private record SectionLines(String name, CompiledTemplate[] templates, BitSet polled, PlaceholderBatch placeholders,
+                              Map<String, DependentLines> dependents, ConditionalLine[] conditionalLines) {
+    static SectionLines compile(final String name, final Component[] lines,
+                                final SettingsConfigModel.LineConditionSection[] conditions, final BitSet animatedLines,
+                                final Function<String, PlaceholderScope> placeholderScopes,
+                                final Set<String> eventDrivenPlaceholders) {
+      final var templates = CompiledTemplate.compileAll(lines, placeholderScopes);
+      final var conditionalLines = new ArrayList<ConditionalLine>(conditions.length);
+      final var conditionPlaceholders = new ArrayList<String>();
+      final var conditionalTemplates = new ArrayList<CompiledTemplate>(conditions.length);
+      for (final var conditionSection : conditions) {
+        final var line = conditionSection.line - 1;
+        if ((line < 0) || (line >= templates.length) || animatedLines.get(line)) continue;
+        final var condition = LineCondition.compile(conditionSection.condition);
+        conditionalLines.add(new ConditionalLine(line, condition));
+        conditionPlaceholders.addAll(condition.placeholders());
+        // The line's placeholders are needed to render it again when it's shown.
+        conditionalTemplates.add(templates[line]);
+      }
+      final var polled = new BitSet(templates.length);
+      final var polledTemplates = new ArrayList<CompiledTemplate>(templates.length);
+      final var dependentLines = new HashMap<String, BitSet>();
+      for (int i = 0; i < templates.length; i++) {
+        // Lines without placeholders never change after the scoreboard's creation.
+        if (!templates[i].dynamic() || animatedLines.get(i)) continue;
+        var eventDriven = true;
+        for (final var placeholder : templates[i].placeholders()) {
+          dependentLines.computeIfAbsent(placeholder, key -> new BitSet(templates.length)).set(i);
+          eventDriven &= eventDrivenPlaceholders.contains(placeholder);
         }
+        if (eventDriven) continue;
+        polled.set(i);
+        polledTemplates.add(templates[i]);
       }
-      case GROUP -> {
-        for (final var groupSection : config.scoreboardGroup) {
-          cachedBoardModel.lineWithoutMutation(this.index, this.process(player, groupSection.lines));
+      polledTemplates.addAll(conditionalTemplates);
+      final var dependents = new HashMap<String, DependentLines>();
+      for (final var entry : dependentLines.entrySet()) {
+        final var dependentTemplates = new ArrayList<CompiledTemplate>();
+        final var lineIndexes = entry.getValue();
+        for (int i = lineIndexes.nextSetBit(0); i >= 0; i = lineIndexes.nextSetBit(i + 1)) {
+          dependentTemplates.add(templates[i]);
         }
+        dependents.put(entry.getKey(), new DependentLines(lineIndexes, PlaceholderBatch.of(dependentTemplates)));
       }
+      return new SectionLines(name, templates, polled, PlaceholderBatch.of(polledTemplates, conditionPlaceholders),
+        Map.copyOf(dependents), conditionalLines.toArray(ConditionalLine[]::new));
     }
-  }
 
-  private Component process(final Player player, Component[] lines) {
-    // Current given index validation for each line of the array.
-    this.validateIndexValue(lines.length);
-    // Return component with placeholders-parsing.
-    return PlaceholderParsingUtils.parse(player, lines[this.index]);
+    boolean periodic() {
+      // Conditions are evaluated periodically, even if the section doesn't have polled-lines.
+      return !this.polled.isEmpty() || (this.conditionalLines.length > 0);
+    }
   }
 }
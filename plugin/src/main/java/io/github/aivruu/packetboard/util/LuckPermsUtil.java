@@ -17,23 +17,100 @@
 package io.github.aivruu.packetboard.util;
 
 import net.luckperms.api.LuckPermsProvider;
+import net.luckperms.api.event.EventBus;
+import net.luckperms.api.event.user.UserDataRecalculateEvent;
+import net.luckperms.api.model.user.User;
 import net.luckperms.api.model.user.UserManager;
 import org.bukkit.Bukkit;
+import org.bukkit.plugin.Plugin;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
 
 public class LuckPermsUtil {
   private static final @Nullable UserManager USER_MANAGER;
+  private static final @Nullable EventBus EVENT_BUS;
+  private static final long LOAD_TIMEOUT_SECONDS = 5;
+  private static final Map<UUID, String> PRIMARY_GROUPS = new ConcurrentHashMap<>();
 
   static {
     final var pluginManager = Bukkit.getPluginManager();
     final var luckPermsAvailability = pluginManager.getPlugin("LuckPerms") != null;
     USER_MANAGER = luckPermsAvailability ? LuckPermsProvider.get().getUserManager() : null;
+    EVENT_BUS = luckPermsAvailability ? LuckPermsProvider.get().getEventBus() : null;
   }
 
   /**
-   * Returns the primary-group for the player with this id.
+   * Subscribes the groups' cache to the users' data recalculations, so the cached primary-groups are kept
+   * updated when the users' groups are modified.
+   *
+   * @param plugin the plugin that owns the subscription.
+   * @since 1.0.0
+   */
+  public static void subscribeGroupsCache(final Plugin plugin) {
+    if (EVENT_BUS == null) {
+      return;
+    }
+    EVENT_BUS.subscribe(plugin, UserDataRecalculateEvent.class, event -> refresh(event.getUser()));
+  }
+
+  /**
+   * Loads the user with this id, and caches its primary-group. This blocks the current thread until the user
+   * is loaded, so it must be called asynchronously, e.g. during the players' pre-login.
+   *
+   * @param playerId the player's unique id.
+   * @since 1.0.0
+   */
+  public static void load(final UUID playerId) {
+    if (USER_MANAGER == null) {
+      return;
+    }
+    try {
+      cache(USER_MANAGER.loadUser(playerId).get(LOAD_TIMEOUT_SECONDS, TimeUnit.SECONDS));
+    } catch (final InterruptedException exception) {
+      Thread.currentThread().interrupt();
+    } catch (final ExecutionException | TimeoutException exception) {
+      // The group will be requested to the user-manager when it's needed.
+    }
+  }
+
+  /**
+   * Removes the cached primary-group for the player with this id.
+   *
+   * @param playerId the player's unique id.
+   * @since 1.0.0
+   */
+  public static void invalidate(final UUID playerId) {
+    PRIMARY_GROUPS.remove(playerId);
+  }
+
+  /**
+   * Subscribes the given handler to the users' data recalculations, which happen when their permissions, or
+   * groups are modified. The cached primary-groups are updated by {@link #subscribeGroupsCache(Plugin)}, so the
+   * handler must read them from the player's owning thread, once the event has been handled.
+   *
+   * @param plugin the plugin that owns the subscription.
+   * @param handler the handler for the recalculated users' unique ids, this is called asynchronously.
+   * @return Whether the handler was subscribed, {@code false} if LuckPerms isn't available.
+   * @since 1.0.0
+   */
+  public static boolean subscribeRecalculations(final Plugin plugin, final Consumer<UUID> handler) {
+    if (EVENT_BUS == null) {
+      return false;
+    }
+    EVENT_BUS.subscribe(plugin, UserDataRecalculateEvent.class, event -> handler.accept(event.getUser().getUniqueId()));
+    return true;
+  }
+
+  /**
+   * Returns the primary-group for the player with this id, the groups are cached when the players are loaded,
+   * and updated when their data is recalculated.
    *
    * @param playerId the player's unique id.
    * @return The player's primary permission-group, or {@code null} if LuckPerms isn't available, or
@@ -42,10 +119,23 @@ public class LuckPermsUtil {
    * @since 1.0.0
    */
   public static @Nullable String primaryGroup(final UUID playerId) {
-    if (USER_MANAGER == null) {
-      return null;
+    final var primaryGroup = PRIMARY_GROUPS.get(playerId);
+    if ((primaryGroup != null) || (USER_MANAGER == null)) {
+      return primaryGroup;
     }
+    // Users that weren't loaded during their pre-login, e.g. after a reload, are cached when they're requested.
     final var user = USER_MANAGER.getUser(playerId);
-    return (user == null) ? null : user.getPrimaryGroup();
+    return (user == null) ? null : cache(user);
+  }
+
+  private static void refresh(final User user) {
+    // Only the players' cached groups are updated, users loaded by other plugins or commands aren't cached.
+    PRIMARY_GROUPS.computeIfPresent(user.getUniqueId(), (playerId, primaryGroup) -> user.getPrimaryGroup());
+  }
+
+  private static String cache(final User user) {
+    final var primaryGroup = user.getPrimaryGroup();
+    PRIMARY_GROUPS.put(user.getUniqueId(), primaryGroup);
+    return primaryGroup;
   }
 }
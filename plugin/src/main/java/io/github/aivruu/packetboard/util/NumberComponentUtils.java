@@ -0,0 +1,92 @@
+// This file is part of packet-board, licensed under the GNU License.
+//
+// Copyright (c) 2024 aivruu
+//
+// This program is free software: you can redistribute it and/or modify
+// it under the terms of the GNU General Public License as published by
+// the Free Software Foundation, either version 3 of the License, or
+// (at your option) any later version.
+//
+// This program is distributed in the hope that it will be useful,
+// but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+// GNU General Public License for more details.
+//
+// You should have received a copy of the GNU General Public License
+// along with this program. If not, see <https://www.gnu.org/licenses/>.
+package io.github.aivruu.packetboard.util;
+
+import net.kyori.adventure.text.Component;
+
+public class NumberComponentUtils {
+  /** The amount of cached components for each precision, starting from zero. */
+  private static final int CACHE_SIZE = 2048;
+  private static final int[] POWERS_OF_TEN = { 1, 10, 100 };
+  /** The cached components for each decimal-precision, these are created lazily, and never modified after it. */
+  private static final Component[][] CACHED_COMPONENTS = new Component[POWERS_OF_TEN.length][CACHE_SIZE];
+  /** Reusable buffers used to format the numbers without any intermediate string. */
+  private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(16));
+
+  private NumberComponentUtils() {
+    throw new UnsupportedOperationException("This class is for utility.");
+  }
+
+  /**
+   * Returns a text-component for the given integer, small integers' components are cached and re-used.
+   *
+   * @param value the integer.
+   * @return The integer's text-component.
+   * @since 1.0.0
+   */
+  public static Component integer(final int value) {
+    return fixed(value, 0);
+  }
+
+  /**
+   * Returns a text-component for the given number, rounded to the given decimals-amount. The components for
+   * small positive numbers are cached and re-used.
+   *
+   * @param value the number.
+   * @param decimals the decimals-amount, between zero and two.
+   * @return The number's text-component.
+   * @since 1.0.0
+   */
+  public static Component decimal(final double value, final int decimals) {
+    return fixed(Math.round(value * POWERS_OF_TEN[decimals]), decimals);
+  }
+
+  private static Component fixed(final long scaledValue, final int decimals) {
+    if ((scaledValue < 0) || (scaledValue >= CACHE_SIZE)) {
+      return Component.text(format(scaledValue, decimals));
+    }
+    final var cachedComponents = CACHED_COMPONENTS[decimals];
+    var component = cachedComponents[(int) scaledValue];
+    if (component == null) {
+      // Components are immutable, so a concurrent creation only means a duplicated instance.
+      component = Component.text(format(scaledValue, decimals));
+      cachedComponents[(int) scaledValue] = component;
+    }
+    return component;
+  }
+
+  private static String format(final long scaledValue, final int decimals) {
+    final var buffer = BUFFER.get();
+    buffer.setLength(0);
+    if (scaledValue < 0) {
+      buffer.append('-');
+    }
+    final var absoluteValue = Math.abs(scaledValue);
+    final var powerOfTen = POWERS_OF_TEN[decimals];
+    buffer.append(absoluteValue / powerOfTen);
+    if (decimals > 0) {
+      buffer.append('.');
+      final var fraction = absoluteValue % powerOfTen;
+      // Leading zeros of the fraction, e.g. 5 hundredths -> "05".
+      for (int i = powerOfTen / 10; (i > 1) && (fraction < i); i /= 10) {
+        buffer.append('0');
+      }
+      buffer.append(fraction);
+    }
+    return buffer.toString();
+  }
+}
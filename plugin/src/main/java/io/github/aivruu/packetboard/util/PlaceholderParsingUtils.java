@@ -17,14 +17,10 @@
 package io.github.aivruu.packetboard.util;
 
 import me.clip.placeholderapi.PlaceholderAPI;
-import net.kyori.adventure.text.Component;
-import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 
 public class PlaceholderParsingUtils {
-  /** Used for from Legacy to Component parsing for PlaceholderAPI it's placeholders with legacy-chars support. */
-  private static final LegacyComponentSerializer LEGACY_COMPONENT_SERIALIZER = LegacyComponentSerializer.legacyAmpersand();
   private static final boolean PLACEHOLDER_API_AVAILABLE;
 
   static {
@@ -34,19 +30,25 @@ public class PlaceholderParsingUtils {
   }
 
   /**
-   * Parses the given component into legacy-text for PlaceholderAPI application, only if this is
+   * Returns whether PlaceholderAPI is available to process placeholders.
+   *
+   * @return Whether PlaceholderAPI is available -> {@link #PLACEHOLDER_API_AVAILABLE}.
+   * @since 1.0.0
+   */
+  public static boolean available() {
+    return PLACEHOLDER_API_AVAILABLE;
+  }
+
+  /**
+   * Resolves the given single placeholder for the player using PlaceholderAPI, only if this is
    * available -> {@link #PLACEHOLDER_API_AVAILABLE}.
    *
    * @param player the player used for placeholders-applying.
-   * @param text the text to parse.
-   * @return A {@link Component} with processed-placeholders. If PlaceholderAPI isn't available, it will return
-   *     the given {@link Component}.
+   * @param placeholder the placeholder to resolve, including its '%' delimiters.
+   * @return The placeholder's value. If PlaceholderAPI isn't available, it will return the given placeholder.
    * @since 1.0.0
    */
-  public static Component parse(final Player player, final Component text) {
-    if (!PLACEHOLDER_API_AVAILABLE) return text;
-    // Serialize given component into string for placeholders applying.
-    final var parsedToLegacyText = LEGACY_COMPONENT_SERIALIZER.serialize(text);
-    return LEGACY_COMPONENT_SERIALIZER.deserialize(PlaceholderAPI.setPlaceholders(player, parsedToLegacyText));
+  public static String resolve(final Player player, final String placeholder) {
+    return PLACEHOLDER_API_AVAILABLE ? PlaceholderAPI.setPlaceholders(player, placeholder) : placeholder;
   }
 }